@@ -31,6 +31,18 @@ public class MailConfig {
     @Value("${spring.mail.properties.mail.smtp.starttls.enable}")
     private boolean starttls;
 
+    @Value("${spring.mail.properties.mail.smtp.connectiontimeout:5000}")
+    private int connectionTimeout;
+
+    @Value("${spring.mail.properties.mail.smtp.timeout:5000}")
+    private int timeout;
+
+    @Value("${spring.mail.properties.mail.smtp.writetimeout:5000}")
+    private int writeTimeout;
+
+    @Value("${spring.mail.properties.mail.debug:false}")
+    private boolean debug;
+
     @Bean
     public JavaMailSender javaMailSender() {
         JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
@@ -43,7 +55,10 @@ public class MailConfig {
         props.put("mail.transport.protocol", "smtp");
         props.put("mail.smtp.auth", Boolean.toString(auth));
         props.put("mail.smtp.starttls.enable", Boolean.toString(starttls));
-        props.put("mail.debug", "true");
+        props.put("mail.smtp.connectiontimeout", Integer.toString(connectionTimeout));
+        props.put("mail.smtp.timeout", Integer.toString(timeout));
+        props.put("mail.smtp.writetimeout", Integer.toString(writeTimeout));
+        props.put("mail.debug", Boolean.toString(debug));
 
         return mailSender;
     }
@@ -0,0 +1,35 @@
+package org.example.travellight.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 포트원 API 클라이언트 설정 (연결 풀, 타임아웃, 동시 호출 제한, 서킷 브레이커)
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "portone.client")
+public class PortOneClientProperties {
+
+    // API 주소 (테스트에서는 로컬 스텁 서버 주소)
+    private String baseUrl = "https://api.portone.io";
+
+    // 연결 타임아웃 (ms)
+    private long connectTimeoutMs = 2000;
+
+    // 응답 타임아웃 (ms)
+    private long readTimeoutMs = 5000;
+
+    // 동시에 진행할 수 있는 최대 호출 수
+    private int maxConcurrentCalls = 20;
+
+    // 동시 호출 한도에 도달했을 때 빈 자리를 기다리는 시간 (ms)
+    private long bulkheadWaitMs = 500;
+
+    // 서킷을 여는 연속 실패 횟수
+    private int failureThreshold = 5;
+
+    // 서킷이 열린 뒤 다시 시험 호출을 허용하기까지의 시간 (ms)
+    private long openStateMs = 30000;
+}
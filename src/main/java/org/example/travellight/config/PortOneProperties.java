@@ -9,5 +9,5 @@ import lombok.Data;
 @ConfigurationProperties(prefix = "portone.secret")
 public class PortOneProperties {
     private String api;
-    // private String webhook;  // 웹훅 비활성화
+    private String webhook; // 웹훅 서명 검증용 시크릿 (whsec_...)
 }
\ No newline at end of file
@@ -8,6 +8,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.example.travellight.dto.CommonApiResponse;
+import org.example.travellight.dto.PartnershipCapacityDto;
 import org.example.travellight.dto.PartnershipDto;
 import org.example.travellight.entity.Partnership;
 import org.example.travellight.service.PartnershipService;
@@ -205,29 +206,26 @@ public class PartnershipController {
             @RequestParam("businessName") String businessName,
             @RequestParam("address") String address) {
         try {
-            // 1. 먼저 해당 매장의 만료된 예약들을 실시간으로 정리
-            reservationService.processExpiredReservationsForStore(businessName, address);
-            
-            Partnership partnership = partnershipService.findByBusinessNameAndAddress(businessName, address);
+            // 만료된 예약은 만료 엔진이 종료 시각에 맞춰 정리하므로 조회만 수행
+            PartnershipCapacityDto partnership = partnershipService.findCapacityByBusinessNameAndAddress(businessName, address);
             if (partnership == null) {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
                         .body(CommonApiResponse.error("해당 매장을 찾을 수 없습니다."));
             }
             
-            // 2. 정리 후 정확한 용량 계산
             Map<String, Integer> currentUsage = partnershipService.getCurrentUsedCapacity(businessName, address);
             
             Map<String, Object> response = new HashMap<>();
             response.put("maxCapacity", Map.of(
-                "smallBags", partnership.getSmallBagsAvailable() != null ? partnership.getSmallBagsAvailable() : 0,
-                "mediumBags", partnership.getMediumBagsAvailable() != null ? partnership.getMediumBagsAvailable() : 0,
-                "largeBags", partnership.getLargeBagsAvailable() != null ? partnership.getLargeBagsAvailable() : 0
+                "smallBags", partnership.smallBagsAvailable() != null ? partnership.smallBagsAvailable() : 0,
+                "mediumBags", partnership.mediumBagsAvailable() != null ? partnership.mediumBagsAvailable() : 0,
+                "largeBags", partnership.largeBagsAvailable() != null ? partnership.largeBagsAvailable() : 0
             ));
             response.put("currentUsage", currentUsage);
             response.put("availableCapacity", Map.of(
-                "smallBags", Math.max(0, (partnership.getSmallBagsAvailable() != null ? partnership.getSmallBagsAvailable() : 0) - currentUsage.get("smallBags")),
-                "mediumBags", Math.max(0, (partnership.getMediumBagsAvailable() != null ? partnership.getMediumBagsAvailable() : 0) - currentUsage.get("mediumBags")),
-                "largeBags", Math.max(0, (partnership.getLargeBagsAvailable() != null ? partnership.getLargeBagsAvailable() : 0) - currentUsage.get("largeBags"))
+                "smallBags", Math.max(0, (partnership.smallBagsAvailable() != null ? partnership.smallBagsAvailable() : 0) - currentUsage.get("smallBags")),
+                "mediumBags", Math.max(0, (partnership.mediumBagsAvailable() != null ? partnership.mediumBagsAvailable() : 0) - currentUsage.get("mediumBags")),
+                "largeBags", Math.max(0, (partnership.largeBagsAvailable() != null ? partnership.largeBagsAvailable() : 0) - currentUsage.get("largeBags"))
             ));
             
             return ResponseEntity.ok(CommonApiResponse.success("사용 가능한 용량 조회 성공", response));
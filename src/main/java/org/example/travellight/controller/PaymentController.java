@@ -1,9 +1,14 @@
 package org.example.travellight.controller;
 
 import org.example.travellight.dto.CommonApiResponse;
-import org.example.travellight.dto.ReservationDto;
+import org.example.travellight.dto.PaymentHistoryDto;
+import org.example.travellight.dto.PaymentHistoryPageDto;
+import org.example.travellight.dto.PortOnePaymentDto;
+import org.example.travellight.service.PaymentWebhookService;
 import org.example.travellight.service.PortOnePaymentService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import lombok.extern.slf4j.Slf4j;
@@ -21,10 +26,10 @@ public class PaymentController {
     private PortOnePaymentService portOnePaymentService;
 
     @Autowired
-    private org.example.travellight.service.ReservationService reservationService;
+    private org.example.travellight.service.PaymentService paymentService;
 
     @Autowired
-    private org.example.travellight.service.PaymentService paymentService;
+    private PaymentWebhookService paymentWebhookService;
 
     @GetMapping("/portone/info/{paymentId}")
     public ResponseEntity<?> getPortonePaymentInfo(@PathVariable String paymentId) {
@@ -32,7 +37,7 @@ public class PaymentController {
             log.info("결제 정보 조회 요청: paymentId = {}", paymentId);
 
             // 포트원 API를 통한 결제 정보 조회
-            Map<String, Object> paymentInfo = portOnePaymentService.verifyPayment(paymentId);
+            PortOnePaymentDto.Payment paymentInfo = portOnePaymentService.verifyPayment(paymentId);
 
             if (paymentInfo == null) {
                 return ResponseEntity.badRequest()
@@ -63,8 +68,38 @@ public class PaymentController {
                     .body(Map.of("error", "결제 ID가 필요합니다."));
             }
 
-            // 포트원 API를 통한 실제 결제 검증
-            Map<String, Object> paymentInfo = portOnePaymentService.verifyPayment(paymentId);
+            // 웹훅으로 이미 반영된 결제는 포트원 재조회 없이 저장된 상태로 응답
+            java.util.Optional<org.example.travellight.entity.Payment> storedPayment =
+                    paymentService.getPaymentByPaymentId(paymentId);
+            if (storedPayment.isPresent() && "PAID".equals(storedPayment.get().getPaymentStatus())) {
+                org.example.travellight.entity.Payment payment = storedPayment.get();
+                org.slf4j.MDC.put("action", "PAYMENT_SUCCESS");
+                org.slf4j.MDC.put("actionCategory", "PAYMENT");
+                org.slf4j.MDC.put("paymentId", paymentId);
+                org.slf4j.MDC.put("paymentMethod", payMethod != null ? payMethod : "unknown");
+                org.slf4j.MDC.put("amount", String.valueOf(payment.getPaymentAmount()));
+                org.slf4j.MDC.put("status", "PAID");
+                log.info("PAYMENT_SUCCESS - PaymentId: {}, Amount: {}, Method: {} (웹훅 반영 결제)",
+                    paymentId, payment.getPaymentAmount(), payMethod);
+
+                Map<String, Object> response = new HashMap<>();
+                response.put("status", "PAID");
+                response.put("paymentId", paymentId);
+                response.put("payMethod", payMethod);
+                response.put("message", getSuccessMessage(payMethod));
+                // 포트원 검증 경로와 같은 금액 구조 {total, discount}로 응답
+                response.put("amount", new PortOnePaymentDto.Amount(
+                        payment.getPaymentAmount() != null ? payment.getPaymentAmount().longValue() : null,
+                        payment.getCouponDiscount() != null ? payment.getCouponDiscount().longValue() : 0L));
+                response.put("paymentStatus", "PAID");
+                response.put("paymentProvider", payment.getPaymentProvider());
+                response.put("cardCompany", payment.getCardCompany());
+                response.put("cardType", payment.getCardType());
+                return ResponseEntity.ok(response);
+            }
+
+            // 포트원 API를 통한 실제 결제 검증 (웹훅보다 먼저 호출된 경우)
+            PortOnePaymentDto.Payment paymentInfo = portOnePaymentService.verifyPayment(paymentId);
 
             if (paymentInfo == null) {
                 org.slf4j.MDC.put("action", "PAYMENT_FAIL");
@@ -78,33 +113,9 @@ public class PaymentController {
             }
 
             // customData에서 userId와 reservationNumber 추출
-            String userId = null;
-            String reservationNumber = null;
-            try {
-                if (paymentInfo.get("customData") != null) {
-                    String customDataStr = paymentInfo.get("customData").toString();
-
-                    // JSON 파싱하여 userId 추출
-                    if (customDataStr.contains("\"userId\":")) {
-                        int userIdStart = customDataStr.indexOf("\"userId\":") + 9;
-                        int userIdEnd = customDataStr.indexOf(",", userIdStart);
-                        if (userIdEnd == -1) {
-                            userIdEnd = customDataStr.indexOf("}", userIdStart);
-                        }
-                        userId = customDataStr.substring(userIdStart, userIdEnd).trim();
-                    }
-
-                    // JSON 파싱하여 reservationNumber 추출
-                    if (customDataStr.contains("\"reservationNumber\":")) {
-                        int resNumStart = customDataStr.indexOf("\"reservationNumber\":\"") + 21;
-                        int resNumEnd = customDataStr.indexOf("\"", resNumStart);
-                        reservationNumber = customDataStr.substring(resNumStart, resNumEnd).trim();
-                        log.info("customData에서 reservationNumber 추출: {}", reservationNumber);
-                    }
-                }
-            } catch (Exception e) {
-                log.warn("Failed to extract data from customData", e);
-            }
+            PortOnePaymentDto.CustomData customData = paymentService.parseCustomData(paymentInfo);
+            String userId = customData.userId();
+            String reservationNumber = customData.reservationNumber();
 
             // MDC에 공통 정보 설정
             org.slf4j.MDC.put("actionCategory", "PAYMENT");
@@ -118,10 +129,10 @@ public class PaymentController {
             org.slf4j.MDC.put("action", "PAYMENT_ATTEMPT");
             log.info("PAYMENT_ATTEMPT - PaymentId: {}, Method: {}", paymentId, payMethod);
 
-            String paymentStatus = (String) paymentInfo.get("status");
+            String paymentStatus = paymentInfo.status();
             if (!"PAID".equals(paymentStatus)) {
                 org.slf4j.MDC.put("action", "PAYMENT_FAIL");
-                org.slf4j.MDC.put("status", paymentStatus);
+                org.slf4j.MDC.put("status", String.valueOf(paymentStatus));
                 org.slf4j.MDC.put("reason", "Payment not completed");
                 log.error("PAYMENT_FAIL - Status: {}, paymentId = {}", paymentStatus, paymentId);
                 return ResponseEntity.badRequest()
@@ -129,116 +140,55 @@ public class PaymentController {
             }
 
             // 결제 성공 로그
+            Long totalAmount = paymentInfo.amount() != null ? paymentInfo.amount().total() : null;
             org.slf4j.MDC.put("action", "PAYMENT_SUCCESS");
-            org.slf4j.MDC.put("amount", paymentInfo.get("amount").toString());
+            org.slf4j.MDC.put("amount", String.valueOf(totalAmount));
             org.slf4j.MDC.put("status", "PAID");
             log.info("PAYMENT_SUCCESS - PaymentId: {}, Amount: {}, Method: {}",
-                paymentId, paymentInfo.get("amount"), payMethod);
+                paymentId, totalAmount, payMethod);
 
             // PortOne API 응답에서 상세 결제 정보 추출
             String cardCompany = null;
             String cardType = null;
             String paymentProvider = "portone"; // 기본값
 
-            try {
-                // method 객체에서 카드 정보 추출
-                if (paymentInfo.get("method") != null) {
-                    Map<String, Object> method = (Map<String, Object>) paymentInfo.get("method");
-
-                    log.info("method 객체 타입: {}", method.getClass().getName());
-                    log.info("method type: {}", method.get("type"));
-                    log.info("method provider: {}", method.get("provider"));
-
-                    // 간편결제(EasyPay)의 경우 easyPayMethod에서 카드 정보 추출
-                    if (method.get("easyPayMethod") != null) {
-                        Map<String, Object> easyPayMethod = (Map<String, Object>) method.get("easyPayMethod");
-                        log.info("easyPayMethod 발견: {}", easyPayMethod);
-
-                        if (easyPayMethod.get("card") != null) {
-                            Map<String, Object> card = (Map<String, Object>) easyPayMethod.get("card");
-                            log.info("easyPayMethod.card 전체 내용: {}", card);
-
-                            // 카드사 정보 (issuer 필드 사용)
-                            if (card.get("issuer") != null) {
-                                cardCompany = card.get("issuer").toString();
-                                log.info("카드사 issuer에서 추출: {}", cardCompany);
-                            } else if (card.get("name") != null) {
-                                cardCompany = card.get("name").toString();
-                                log.info("카드사 name에서 추출: {}", cardCompany);
-                            }
-
-                            // 카드 타입 (CREDIT, DEBIT 등)
-                            if (card.get("type") != null) {
-                                cardType = card.get("type").toString();
-                                log.info("카드 타입 type에서 추출: {}", cardType);
-                            }
-                        }
-                    }
-                    // 일반 카드 결제의 경우 card에서 직접 추출
-                    else if (method.get("card") != null) {
-                        Map<String, Object> card = (Map<String, Object>) method.get("card");
-                        log.info("card 전체 내용: {}", card);
-
-                        // 카드사 정보
-                        if (card.get("issuer") != null) {
-                            cardCompany = card.get("issuer").toString();
-                            log.info("카드사 issuer에서 추출: {}", cardCompany);
-                        } else if (card.get("publisher") != null) {
-                            cardCompany = card.get("publisher").toString();
-                            log.info("카드사 publisher에서 추출: {}", cardCompany);
-                        } else if (card.get("name") != null) {
-                            cardCompany = card.get("name").toString();
-                            log.info("카드사 name에서 추출: {}", cardCompany);
-                        }
-
-                        // 카드 타입
-                        if (card.get("type") != null) {
-                            cardType = card.get("type").toString();
-                            log.info("카드 타입 type에서 추출: {}", cardType);
-                        }
-                    } else {
-                        log.warn("카드 정보를 찾을 수 없음. method 객체의 모든 키: {}", method.keySet());
-                    }
-                } else {
-                    log.warn("paymentInfo.method가 null입니다. paymentInfo의 모든 키: {}", paymentInfo.keySet());
-                }
-
-                // channel 정보에서 결제 제공자(PG사) 추출
-                if (paymentInfo.get("channel") != null) {
-                    Map<String, Object> channel = (Map<String, Object>) paymentInfo.get("channel");
-                    log.info("channel 전체 내용: {}", channel);
-
-                    // pgProvider 필드 우선 확인 (예: KCP_V2, TOSSPAYMENTS 등)
-                    if (channel.get("pgProvider") != null) {
-                        paymentProvider = channel.get("pgProvider").toString();
-                        log.info("PG사 pgProvider에서 추출: {}", paymentProvider);
-                    } else if (channel.get("name") != null) {
-                        paymentProvider = channel.get("name").toString();
-                        log.info("PG사 name에서 추출: {}", paymentProvider);
-                    }
-                }
-
-                // 결제 수단이 PayPal인 경우
-                if ("paypal".equals(payMethod)) {
-                    paymentProvider = "PayPal";
-                    log.info("PayPal 결제로 설정");
-                }
+            // 간편결제(EasyPay)는 easyPayMethod.card, 일반 카드 결제는 card에서 카드 정보 추출
+            PortOnePaymentDto.Method method = paymentInfo.method();
+            PortOnePaymentDto.Card card = null;
+            if (method != null) {
+                card = method.easyPayMethod() != null ? method.easyPayMethod().card() : method.card();
+            }
+            if (card != null) {
+                cardCompany = card.issuer() != null ? card.issuer()
+                        : card.publisher() != null ? card.publisher() : card.name();
+                cardType = card.type();
+            }
 
-                log.info("=== 최종 추출된 결제 상세 정보 ===");
-                log.info("cardCompany: {}", cardCompany);
-                log.info("cardType: {}", cardType);
-                log.info("paymentProvider: {}", paymentProvider);
+            // channel 정보에서 결제 제공자(PG사) 추출 (예: KCP_V2, TOSSPAYMENTS 등)
+            PortOnePaymentDto.Channel channel = paymentInfo.channel();
+            if (channel != null && channel.pgProvider() != null) {
+                paymentProvider = channel.pgProvider();
+            } else if (channel != null && channel.name() != null) {
+                paymentProvider = channel.name();
+            }
 
-            } catch (Exception e) {
-                log.warn("결제 상세 정보 추출 중 오류 (계속 진행): {}", e.getMessage(), e);
+            // 결제 수단이 PayPal인 경우
+            if ("paypal".equals(payMethod)) {
+                paymentProvider = "PayPal";
             }
 
+            log.debug("결제 상세 정보 - cardCompany: {}, cardType: {}, paymentProvider: {}",
+                cardCompany, cardType, paymentProvider);
+
             // Payment 테이블에 결제 정보 저장
             if (reservationNumber != null && !reservationNumber.isEmpty()) {
                 try {
                     log.info("Payment 테이블에 결제 정보 저장 시작 - reservationNumber: {}", reservationNumber);
                     paymentService.createPaymentFromPortOne(paymentInfo, reservationNumber);
                     log.info("Payment 테이블에 결제 정보 저장 완료");
+                } catch (DataIntegrityViolationException e) {
+                    // 웹훅 처리나 /save 요청이 같은 결제를 먼저 저장한 경우 (payment_id 유니크 제약)
+                    log.info("이미 저장된 결제 정보 - paymentId: {}", paymentId);
                 } catch (Exception e) {
                     log.error("Payment 테이블 저장 중 오류 발생 (계속 진행): {}", e.getMessage(), e);
                     // 결제는 성공했으므로 Payment 저장 실패해도 계속 진행
@@ -252,7 +202,7 @@ public class PaymentController {
             response.put("paymentId", paymentId);
             response.put("payMethod", payMethod);
             response.put("message", getSuccessMessage(payMethod));
-            response.put("amount", paymentInfo.get("amount"));
+            response.put("amount", paymentInfo.amount());
             response.put("paymentStatus", "PAID");
             response.put("paymentProvider", paymentProvider);
             response.put("cardCompany", cardCompany);
@@ -300,16 +250,33 @@ public class PaymentController {
 
             log.info("Payment 저장 요청 - paymentId: {}, reservationNumber: {}", paymentId, reservationNumber);
 
+            // 완료 처리나 웹훅으로 이미 저장된 결제는 다시 조회/저장하지 않음
+            if (paymentService.getPaymentByPaymentId(paymentId).isPresent()) {
+                log.info("이미 저장된 결제 정보 - paymentId: {}", paymentId);
+                return ResponseEntity.ok(Map.of(
+                    "success", true,
+                    "message", "결제 정보가 저장되었습니다."
+                ));
+            }
+
             // 포트원 API로 결제 정보 재조회
-            Map<String, Object> paymentInfo = portOnePaymentService.verifyPayment(paymentId);
+            PortOnePaymentDto.Payment paymentInfo = portOnePaymentService.verifyPayment(paymentId);
 
             if (paymentInfo == null) {
                 return ResponseEntity.badRequest()
                     .body(Map.of("error", "결제 정보를 찾을 수 없습니다."));
             }
 
-            // Payment 테이블에 저장
-            paymentService.createPaymentFromPortOne(paymentInfo, reservationNumber);
+            // Payment 테이블에 저장 (조회 이후 웹훅 처리가 먼저 저장했으면 payment_id 유니크 제약으로 거부됨)
+            try {
+                paymentService.createPaymentFromPortOne(paymentInfo, reservationNumber);
+            } catch (DataIntegrityViolationException e) {
+                log.info("이미 저장된 결제 정보 - paymentId: {}", paymentId);
+                return ResponseEntity.ok(Map.of(
+                    "success", true,
+                    "message", "결제 정보가 저장되었습니다."
+                ));
+            }
 
             log.info("Payment 저장 완료 - paymentId: {}, reservationNumber: {}", paymentId, reservationNumber);
 
@@ -377,30 +344,14 @@ public class PaymentController {
 
     /**
      * 사용자 ID로 모든 결제 내역 조회
+     * 결제와 예약을 조인한 한 번의 쿼리로 조회합니다. (예약별 결제 조회(N+1) 방지)
      */
     @GetMapping("/user/{userId}")
-    public ResponseEntity<CommonApiResponse<java.util.List<Map<String, Object>>>> getPaymentsByUserId(@PathVariable Long userId) {
+    public ResponseEntity<CommonApiResponse<java.util.List<PaymentHistoryDto>>> getPaymentsByUserId(@PathVariable Long userId) {
         try {
-            // User의 모든 Reservation을 조회하고, 각 Reservation의 Payment를 수집
-            java.util.List<org.example.travellight.entity.Payment> allPayments = new java.util.ArrayList<>();
-
-            // ReservationService를 통해 사용자의 예약 목록 조회
-            java.util.List<ReservationDto> reservations = reservationService.getUserReservations(userId);
-
-            // 각 예약의 결제 내역 수집
-            for (ReservationDto reservation : reservations) {
-                java.util.List<org.example.travellight.entity.Payment> payments =
-                        paymentService.getPaymentsByReservationId(reservation.getId());
-                allPayments.addAll(payments);
-            }
-
-            // Payment 엔티티를 DTO로 변환 (순환 참조 방지)
-            java.util.List<Map<String, Object>> paymentDtos = allPayments.stream()
-                    .map(this::convertToDto)
-                    .collect(java.util.stream.Collectors.toList());
-
-            log.info("사용자 ID {}의 결제 내역 {} 건 조회", userId, paymentDtos.size());
-            return ResponseEntity.ok(CommonApiResponse.success("결제 내역 조회 성공", paymentDtos));
+            java.util.List<PaymentHistoryDto> payments = paymentService.getAllPaymentHistory(userId);
+            log.info("사용자 ID {}의 결제 내역 {} 건 조회", userId, payments.size());
+            return ResponseEntity.ok(CommonApiResponse.success("결제 내역 조회 성공", payments));
         } catch (Exception e) {
             log.error("사용자의 결제 내역 조회 중 오류: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError()
@@ -409,45 +360,22 @@ public class PaymentController {
     }
 
     /**
-     * Payment 엔티티를 DTO로 변환 (순환 참조 방지)
+     * 사용자 결제 내역 커서 페이지 조회 (생성일시 내림차순)
      */
-    private Map<String, Object> convertToDto(org.example.travellight.entity.Payment payment) {
-        Map<String, Object> dto = new HashMap<>();
-        dto.put("id", payment.getId());
-        dto.put("reservationId", payment.getReservation().getId());
-        dto.put("paymentId", payment.getPaymentId());
-        dto.put("transactionId", payment.getTransactionId());
-        dto.put("merchantId", payment.getMerchantId());
-        dto.put("storeId", payment.getStoreId());
-        dto.put("paymentMethod", payment.getPaymentMethod());
-        dto.put("paymentProvider", payment.getPaymentProvider());
-        dto.put("easyPayProvider", payment.getEasyPayProvider());
-        dto.put("cardCompany", payment.getCardCompany());
-        dto.put("cardType", payment.getCardType());
-        dto.put("cardNumber", payment.getCardNumber());
-        dto.put("cardName", payment.getCardName());
-        dto.put("installmentMonth", payment.getInstallmentMonth());
-        dto.put("isInterestFree", payment.getIsInterestFree());
-        dto.put("approvalNumber", payment.getApprovalNumber());
-        dto.put("paymentAmount", payment.getPaymentAmount());
-        dto.put("paymentStatus", payment.getPaymentStatus());
-        dto.put("paymentTime", payment.getPaymentTime());
-        dto.put("cancelledAt", payment.getCancelledAt());
-        dto.put("cancelReason", payment.getCancelReason());
-        dto.put("refundAmount", payment.getRefundAmount());
-        dto.put("channelType", payment.getChannelType());
-        dto.put("channelId", payment.getChannelId());
-        dto.put("channelKey", payment.getChannelKey());
-        dto.put("channelName", payment.getChannelName());
-        dto.put("pgMerchantId", payment.getPgMerchantId());
-        dto.put("pgTransactionId", payment.getPgTransactionId());
-        dto.put("couponCode", payment.getCouponCode());
-        dto.put("couponName", payment.getCouponName());
-        dto.put("couponDiscount", payment.getCouponDiscount());
-        dto.put("currency", payment.getCurrency());
-        dto.put("createdAt", payment.getCreatedAt());
-        dto.put("updatedAt", payment.getUpdatedAt());
-        return dto;
+    @GetMapping("/user/{userId}/history")
+    public ResponseEntity<CommonApiResponse<PaymentHistoryPageDto>> getPaymentHistory(
+            @PathVariable Long userId,
+            @RequestParam(value = "cursorCreatedAt", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) java.time.LocalDateTime cursorCreatedAt,
+            @RequestParam(value = "cursorId", required = false) Long cursorId,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        try {
+            PaymentHistoryPageDto page = paymentService.getPaymentHistory(userId, cursorCreatedAt, cursorId, size);
+            return ResponseEntity.ok(CommonApiResponse.success("결제 내역 조회 성공", page));
+        } catch (Exception e) {
+            log.error("사용자의 결제 내역 페이지 조회 중 오류: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError()
+                    .body(CommonApiResponse.error("결제 내역 조회 중 오류가 발생했습니다: " + e.getMessage()));
+        }
     }
 
     /**
@@ -472,23 +400,8 @@ public class PaymentController {
             log.info("결제 취소 요청 (관리자): paymentId = {}, reason = {}", paymentId, cancelReason);
 
             // 결제 정보 조회하여 userId 추출
-            Map<String, Object> paymentInfo = portOnePaymentService.verifyPayment(paymentId);
-            String userId = null;
-            try {
-                if (paymentInfo != null && paymentInfo.get("customData") != null) {
-                    String customDataStr = paymentInfo.get("customData").toString();
-                    if (customDataStr.contains("\"userId\":")) {
-                        int userIdStart = customDataStr.indexOf("\"userId\":") + 9;
-                        int userIdEnd = customDataStr.indexOf(",", userIdStart);
-                        if (userIdEnd == -1) {
-                            userIdEnd = customDataStr.indexOf("}", userIdStart);
-                        }
-                        userId = customDataStr.substring(userIdStart, userIdEnd).trim();
-                    }
-                }
-            } catch (Exception e) {
-                log.warn("Failed to extract userId from customData", e);
-            }
+            PortOnePaymentDto.Payment paymentInfo = portOnePaymentService.verifyPayment(paymentId);
+            String userId = paymentInfo != null ? paymentService.parseCustomData(paymentInfo).userId() : null;
 
             // MDC에 공통 정보 설정
             org.slf4j.MDC.put("actionCategory", "PAYMENT");
@@ -540,23 +453,8 @@ public class PaymentController {
 
         try {
             // 결제 정보 조회하여 userId 추출
-            Map<String, Object> paymentInfo = portOnePaymentService.verifyPayment(paymentId);
-            String userId = null;
-            try {
-                if (paymentInfo != null && paymentInfo.get("customData") != null) {
-                    String customDataStr = paymentInfo.get("customData").toString();
-                    if (customDataStr.contains("\"userId\":")) {
-                        int userIdStart = customDataStr.indexOf("\"userId\":") + 9;
-                        int userIdEnd = customDataStr.indexOf(",", userIdStart);
-                        if (userIdEnd == -1) {
-                            userIdEnd = customDataStr.indexOf("}", userIdStart);
-                        }
-                        userId = customDataStr.substring(userIdStart, userIdEnd).trim();
-                    }
-                }
-            } catch (Exception e) {
-                log.warn("Failed to extract userId from customData", e);
-            }
+            PortOnePaymentDto.Payment paymentInfo = portOnePaymentService.verifyPayment(paymentId);
+            String userId = paymentInfo != null ? paymentService.parseCustomData(paymentInfo).userId() : null;
 
             // MDC에 공통 정보 설정
             org.slf4j.MDC.put("actionCategory", "PAYMENT");
@@ -591,22 +489,47 @@ public class PaymentController {
         }
     }
     
-    // 웹훅 엔드포인트 비활성화 (필요시 나중에 활성화)
-    /*
+    /**
+     * 포트원 웹훅 수신
+     * 서명 검증 후 수신함에 기록만 하고 바로 응답하며, 결제/예약 반영은 별도 작업자가 처리합니다.
+     */
     @PostMapping("/portone/webhook")
-    public ResponseEntity<?> handlePortoneWebhook(@RequestBody String payload, 
-                                                  @RequestHeader Map<String, String> headers) {
+    public ResponseEntity<?> handlePortoneWebhook(@RequestBody String payload,
+                                                  @RequestHeader(value = "webhook-id", required = false) String webhookId,
+                                                  @RequestHeader(value = "webhook-timestamp", required = false) String webhookTimestamp,
+                                                  @RequestHeader(value = "webhook-signature", required = false) String webhookSignature) {
         try {
-            log.info("포트원 웹훅 수신: {}", payload);
-            
-            // TODO: 포트원 웹훅 검증 및 처리 로직 구현
-            
+            paymentWebhookService.receive(webhookId, webhookTimestamp, webhookSignature, payload);
             return ResponseEntity.ok().build();
-            
+
+        } catch (PaymentWebhookService.InvalidWebhookException e) {
+            log.warn("포트원 웹훅 거부: webhookId={}, 사유={}", webhookId, e.getMessage());
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
-            log.error("포트원 웹훅 처리 중 오류 발생", e);
+            // 5xx 응답 시 포트원이 재전송하므로 기록하지 못한 웹훅도 유실되지 않음
+            log.error("포트원 웹훅 수신 중 오류 발생: webhookId={}", webhookId, e);
             return ResponseEntity.internalServerError().build();
         }
     }
-    */
+
+    /**
+     * 결제 반영 상태 조회 (포트원 호출 없이 저장된 상태만 조회)
+     */
+    @GetMapping("/portone/status/{paymentId}")
+    public ResponseEntity<?> getPortonePaymentStatus(@PathVariable String paymentId) {
+        try {
+            Map<String, Object> response = new HashMap<>();
+            response.put("paymentId", paymentId);
+            response.put("paymentStatus", paymentService.getPaymentByPaymentId(paymentId)
+                    .map(org.example.travellight.entity.Payment::getPaymentStatus)
+                    .orElse(null));
+            response.put("webhookPending", paymentWebhookService.hasUnprocessedWebhook(paymentId));
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            log.error("결제 반영 상태 조회 중 오류: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError()
+                .body(Map.of("error", "결제 상태 조회 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
 } 
\ No newline at end of file
@@ -2,6 +2,7 @@ package org.example.travellight.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.example.travellight.dto.CommonApiResponse;
+import org.example.travellight.dto.ReservationCursorPageDto;
 import org.example.travellight.dto.ReservationDto;
 import org.example.travellight.service.ReservationService;
 import org.example.travellight.service.ReviewService;
@@ -12,10 +13,15 @@ import org.example.travellight.entity.User;
 import org.example.travellight.dto.ReviewDto;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -527,6 +533,34 @@ public class ReservationController {
         }
     }
     
+    // 관리자용 예약 목록 커서 페이지 조회 (생성일시 내림차순)
+    @GetMapping("/admin/page")
+    public ResponseEntity<ReservationCursorPageDto> getAdminReservations(
+            @RequestParam(value = "status", required = false) String status,
+            @RequestParam(value = "placeName", required = false) String placeName,
+            @RequestParam(value = "placeAddress", required = false) String placeAddress,
+            @RequestParam(value = "fromDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @RequestParam(value = "toDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+            @RequestParam(value = "cursorCreatedAt", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(value = "cursorId", required = false) Long cursorId,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        logger.info("관리자 예약 목록 페이지 조회 요청 - status: {}, placeName: {}, cursorId: {}, size: {}",
+                status, placeName, cursorId, size);
+        // 커서는 생성일시와 ID를 함께 보내야 함 (한쪽만 보내면 첫 페이지가 중복 조회됨)
+        if ((cursorCreatedAt == null) != (cursorId == null)) {
+            logger.warn("관리자 예약 목록 페이지 조회 - 커서 값 누락: cursorCreatedAt={}, cursorId={}", cursorCreatedAt, cursorId);
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            ReservationCursorPageDto page = reservationService.getAdminReservations(
+                    status, placeName, placeAddress, fromDate, toDate, cursorCreatedAt, cursorId, size);
+            return ResponseEntity.ok(page);
+        } catch (Exception e) {
+            logger.error("관리자 예약 목록 페이지 조회 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
     // 매장별 회원별 예약 통계 조회 (관리자용)
     @GetMapping("/admin/stats/by-store-and-user")
     public ResponseEntity<Map<String, Object>> getReservationStatsByStoreAndUser() {
@@ -540,4 +574,16 @@ public class ReservationController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
+    
+    // 매장별 회원별 예약 통계 스트리밍 조회 (관리자용, NDJSON 한 줄당 매장/회원 한 건)
+    @GetMapping(value = "/admin/stats/by-store-and-user/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamReservationStatsByStoreAndUser(
+            @RequestParam(value = "topPerStore", required = false) Integer topPerStore) {
+        logger.info("매장별 회원별 예약 통계 스트리밍 요청: topPerStore={}", topPerStore);
+        StreamingResponseBody body = outputStream ->
+                reservationService.streamReservationStatsByStoreAndUser(topPerStore, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
 } 
\ No newline at end of file
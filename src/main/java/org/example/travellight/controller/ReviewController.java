@@ -117,6 +117,25 @@ public class ReviewController {
         return ResponseEntity.ok(CommonApiResponse.success("리뷰 정보를 조회했습니다.", response));
     }
     
+    @Operation(summary = "리뷰 검색", description = "매장명, 작성자명, 리뷰 제목/내용으로 리뷰를 검색합니다. 관련도 순으로 정렬되며, 다음 페이지는 응답의 커서 값을 전달해 조회합니다.")
+    @GetMapping("/search")
+    public ResponseEntity<CommonApiResponse<ReviewDto.ReviewSearchPage>> searchReviews(
+            @Parameter(description = "검색어", required = true)
+            @RequestParam String query,
+            @Parameter(description = "이전 페이지 마지막 항목의 점수")
+            @RequestParam(required = false) Double cursorScore,
+            @Parameter(description = "이전 페이지 마지막 항목의 리뷰 ID")
+            @RequestParam(required = false) Long cursorId,
+            @Parameter(description = "페이지 크기 (최대 50)")
+            @RequestParam(defaultValue = "10") int size,
+            Principal principal) {
+        
+        User currentUser = getCurrentUserOrNull(principal);
+        ReviewDto.ReviewSearchPage page = reviewService.searchReviews(query, cursorScore, cursorId, size, currentUser);
+        
+        return ResponseEntity.ok(CommonApiResponse.success("리뷰 검색 결과를 조회했습니다.", page));
+    }
+    
     @Operation(summary = "제휴점 리뷰 목록 조회", description = "특정 제휴점의 리뷰 목록을 조회합니다.")
     @GetMapping("/place")
     public ResponseEntity<CommonApiResponse<Page<ReviewDto.ReviewResponse>>> getPlaceReviews(
@@ -232,13 +251,21 @@ public class ReviewController {
         return ResponseEntity.ok(CommonApiResponse.success("리뷰 작성 가능 여부를 확인했습니다.", canWrite));
     }
     
-    @Operation(summary = "상위 평점 제휴점 조회", description = "평점이 높은 상위 제휴점 목록을 조회합니다.")
+    @Operation(summary = "상위 평점 제휴점 조회", description = "평점이 높은 상위 제휴점 목록을 조회합니다. 위도/경도를 지정하면 반경 안의 제휴점만 조회합니다.")
     @GetMapping("/top-rated-places")
     public ResponseEntity<CommonApiResponse<List<ReviewDto.PlaceReviewSummary>>> getTopRatedPlaces(
             @Parameter(description = "조회할 개수")
-            @RequestParam(defaultValue = "10") int limit) {
-        
-        List<ReviewDto.PlaceReviewSummary> topRatedPlaces = reviewService.getTopRatedPlaces(limit);
+            @RequestParam(defaultValue = "10") int limit,
+            @Parameter(description = "기준 위도")
+            @RequestParam(required = false) Double latitude,
+            @Parameter(description = "기준 경도")
+            @RequestParam(required = false) Double longitude,
+            @Parameter(description = "검색 반경 (km)")
+            @RequestParam(defaultValue = "5") double radiusKm) {
+        
+        List<ReviewDto.PlaceReviewSummary> topRatedPlaces = latitude != null && longitude != null
+                ? reviewService.getTopRatedPlacesNear(latitude, longitude, radiusKm, limit)
+                : reviewService.getTopRatedPlaces(limit);
         
         return ResponseEntity.ok(CommonApiResponse.success("상위 평점 제휴점 목록을 조회했습니다.", topRatedPlaces));
     }
@@ -300,6 +327,19 @@ public class ReviewController {
         return ResponseEntity.ok(CommonApiResponse.success("신고가 많은 리뷰 목록을 조회했습니다.", reviews));
     }
     
+    @Operation(summary = "신고 리뷰 검토 대기열", description = "관리자가 검토 대기 중인 신고 리뷰를 신고 속도(시간당 신고 수) 순으로 조회합니다.")
+    @GetMapping("/admin/moderation-queue")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CommonApiResponse<Page<ReviewDto.ModerationQueueItem>>> getModerationQueue(
+            @Parameter(description = "최소 신고 수")
+            @RequestParam(defaultValue = "1") int minReports,
+            @PageableDefault(size = 20) Pageable pageable) {
+        
+        Page<ReviewDto.ModerationQueueItem> queue = reviewService.getModerationQueue(minReports, pageable);
+        
+        return ResponseEntity.ok(CommonApiResponse.success("신고 리뷰 검토 대기열을 조회했습니다.", queue));
+    }
+    
     @Operation(summary = "특정 사용자의 리뷰 조회", description = "관리자가 특정 사용자의 모든 리뷰를 조회합니다.")
     @GetMapping("/admin/user/{userId}")
     @PreAuthorize("hasRole('ADMIN')")
@@ -313,6 +353,18 @@ public class ReviewController {
         return ResponseEntity.ok(CommonApiResponse.success("사용자 리뷰 목록을 조회했습니다.", reviews));
     }
     
+    @Operation(summary = "예약별 리뷰 일괄 삭제", description = "관리자가 여러 예약의 리뷰와 사진, 도움이 됨, 신고 기록을 한 번에 삭제합니다.")
+    @DeleteMapping("/admin/by-reservations")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CommonApiResponse<Integer>> deleteReviewsByReservations(
+            @Parameter(description = "예약 ID 목록", required = true)
+            @Valid @RequestBody ReviewDto.BulkDeleteRequest request) {
+        
+        int deleted = reviewService.deleteReviewsByReservationIds(request.getReservationIds());
+        
+        return ResponseEntity.ok(CommonApiResponse.success("리뷰 " + deleted + "건이 삭제되었습니다.", deleted));
+    }
+    
     // Private helper methods
     
     private User getCurrentUserLegacy(Principal principal) {
@@ -0,0 +1,27 @@
+package org.example.travellight.dto;
+
+import org.example.travellight.entity.Partnership;
+
+/**
+ * 제휴점 보관 용량 (예약 접수 시 용량 확인용, 캐시에 보관되므로 변경 불가)
+ */
+public record PartnershipCapacityDto(
+        Long id,
+        String businessName,
+        String address,
+        String status,
+        Integer smallBagsAvailable,
+        Integer mediumBagsAvailable,
+        Integer largeBagsAvailable) {
+
+    public static PartnershipCapacityDto from(Partnership partnership) {
+        return new PartnershipCapacityDto(
+                partnership.getId(),
+                partnership.getBusinessName(),
+                partnership.getAddress(),
+                partnership.getStatus(),
+                partnership.getSmallBagsAvailable(),
+                partnership.getMediumBagsAvailable(),
+                partnership.getLargeBagsAvailable());
+    }
+}
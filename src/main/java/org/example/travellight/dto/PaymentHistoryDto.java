@@ -0,0 +1,55 @@
+package org.example.travellight.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 결제 내역 항목 (결제와 예약 컬럼을 한 번의 쿼리로 조회, 필드 순서는 PaymentRepository.HISTORY_SELECT와 동일)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PaymentHistoryDto {
+
+    private Long id;
+    private Long reservationId;
+    private String reservationNumber;
+    private String placeName;
+    private String paymentId;
+    private String transactionId;
+    private String merchantId;
+    private String storeId;
+    private String paymentMethod;
+    private String paymentProvider;
+    private String easyPayProvider;
+    private String cardCompany;
+    private String cardType;
+    private String cardNumber;
+    private String cardName;
+    private Integer installmentMonth;
+    private Boolean isInterestFree;
+    private String approvalNumber;
+    private Integer paymentAmount;
+    private String paymentStatus;
+    private LocalDateTime paymentTime;
+    private LocalDateTime cancelledAt;
+    private String cancelReason;
+    private Integer refundAmount;
+    private String channelType;
+    private String channelId;
+    private String channelKey;
+    private String channelName;
+    private String pgMerchantId;
+    private String pgTransactionId;
+    private String couponCode;
+    private String couponName;
+    private Integer couponDiscount;
+    private String currency;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
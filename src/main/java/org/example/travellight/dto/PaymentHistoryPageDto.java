@@ -0,0 +1,28 @@
+package org.example.travellight.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 커서(생성일시, ID) 기반 사용자 결제 내역 페이지
+ * 다음 페이지는 nextCursorCreatedAt, nextCursorId를 그대로 전달하여 조회합니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PaymentHistoryPageDto {
+
+    private List<PaymentHistoryDto> payments;
+    private Integer size;
+    private Boolean hasNext;
+
+    // 마지막 항목의 생성일시와 ID (다음 페이지 요청용)
+    private LocalDateTime nextCursorCreatedAt;
+    private Long nextCursorId;
+}
@@ -0,0 +1,91 @@
+package org.example.travellight.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * 포트원 V2 결제 조회 응답 (GET /payments/{paymentId})
+ * 사용하는 필드만 선언하며, HTTP 응답 본문에서 바로 역직렬화됩니다.
+ */
+public final class PortOnePaymentDto {
+
+    private PortOnePaymentDto() {
+    }
+
+    /**
+     * 결제 건
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Payment(
+            String id,
+            String status,          // READY, PENDING, VIRTUAL_ACCOUNT_ISSUED, PAID, FAILED, PARTIAL_CANCELLED, CANCELLED
+            String transactionId,
+            String merchantId,
+            String storeId,
+            Method method,          // PayPal 등 일부 결제는 없음
+            Channel channel,
+            Amount amount,
+            String currency,
+            String customData,      // 결제 요청 시 전달한 JSON 문자열
+            String promotionId,
+            String couponCode,
+            String couponName) {
+    }
+
+    /**
+     * 결제 금액
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Amount(Long total, Long discount) {
+    }
+
+    /**
+     * 결제 수단 (type: PaymentMethodCard, PaymentMethodEasyPay 등)
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Method(String type, String provider, Card card, EasyPayMethod easyPayMethod) {
+    }
+
+    /**
+     * 간편결제 내 결제 수단
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record EasyPayMethod(String type, Card card, String approvalNumber, Installment installment) {
+    }
+
+    /**
+     * 카드 정보
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Card(String issuer, String publisher, String type, String number, String name) {
+    }
+
+    /**
+     * 할부 정보
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Installment(Integer month, Boolean isInterestFree) {
+    }
+
+    /**
+     * 결제 채널 (PG사)
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Channel(String type, String id, String key, String name, String pgProvider, String pgMerchantId) {
+    }
+
+    /**
+     * customData 해석 결과 (결제 요청 시 프론트엔드가 전달한 값)
+     */
+    public record CustomData(String userId, String reservationNumber, ReservationData reservationData) {
+
+        public static final CustomData EMPTY = new CustomData(null, null, null);
+    }
+
+    /**
+     * customData.reservationData 중 사용자/예약번호와 쿠폰 정보 (결제 화면은 이 안에 담아 전달)
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record ReservationData(String userId, String reservationNumber,
+                                  String couponCode, String couponName, Integer couponDiscount) {
+    }
+}
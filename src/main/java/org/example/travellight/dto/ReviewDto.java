@@ -39,7 +39,7 @@ public class ReviewDto {
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
-    @Builder
+    @Builder(toBuilder = true)
     public static class ReviewResponse {
         private Long id;
         private Long reservationId;
@@ -93,6 +93,10 @@ public class ReviewDto {
         private String filePath;
         private Long fileSize;
         private String mimeType;
+        private Integer width;
+        private Integer height;
+        private String displayPath; // 화면용 이미지 (변환 전이면 null)
+        private String thumbnailPath; // 썸네일 이미지 (변환 전이면 null)
         private Integer sortOrder;
         private LocalDateTime uploadedAt;
     }
@@ -166,6 +170,40 @@ public class ReviewDto {
         private String adminReply;
     }
     
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class BulkDeleteRequest {
+        @NotEmpty(message = "예약 ID 목록은 필수입니다")
+        @Size(max = 1000, message = "한 번에 최대 1000개까지 삭제할 수 있습니다")
+        private List<Long> reservationIds;
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ReviewSearchPage {
+        private List<ReviewResponse> reviews; // 관련도 순
+        private int size;
+        private boolean hasNext;
+        private Double nextCursorScore; // 다음 페이지 요청 시 전달 (마지막 항목의 점수)
+        private Long nextCursorId;      // 다음 페이지 요청 시 전달 (마지막 항목의 ID)
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ModerationQueueItem {
+        private ReviewResponse review;
+        private Integer reportCount;         // 대기열에 들어온 이후 신고 수
+        private Double reportsPerHour;       // 신고 속도 (첫 신고 이후 시간당 신고 수)
+        private LocalDateTime firstReportedAt;
+        private LocalDateTime lastReportedAt;
+    }
+    
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
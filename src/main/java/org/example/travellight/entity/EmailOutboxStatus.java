@@ -0,0 +1,18 @@
+package org.example.travellight.entity;
+
+public enum EmailOutboxStatus {
+    PENDING("전송 대기"),
+    SENDING("전송 중"),
+    SENT("전송됨"),
+    FAILED("전송 실패");
+
+    private final String displayName;
+
+    EmailOutboxStatus(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.travellight.entity;
+
+public enum EmailOutboxType {
+    RESERVATION_CONFIRMATION("예약 확인");
+
+    private final String displayName;
+
+    EmailOutboxType(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,6 @@
+package org.example.travellight.entity;
+
+public enum ModerationStatus {
+    PENDING,    // 검토 대기
+    RESOLVED    // 검토 완료 (관리자가 리뷰 상태를 변경)
+}
@@ -8,7 +8,9 @@ import java.util.List;
 import java.util.Map;
 
 @Entity
-@Table(name = "partnerships")
+@Table(name = "partnerships", indexes = {
+    @Index(name = "idx_partnership_business_name_address", columnList = "business_name, address")
+})
 public class Partnership {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -8,7 +8,9 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "payments")
+@Table(name = "payments", indexes = {
+    @Index(name = "idx_payment_reservation_created_at_id", columnList = "reservation_id, created_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,55 @@
+package org.example.travellight.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import java.time.LocalDateTime;
+
+/**
+ * 수신한 포트원 웹훅 (서명 검증 후 바로 기록하고 응답하며, 별도 작업자가 결제/예약에 반영)
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "payment_webhook_inbox", indexes = {
+    @Index(name = "idx_payment_webhook_inbox_status_next", columnList = "status, next_attempt_at")
+})
+public class PaymentWebhookInbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "webhook_id", nullable = false, unique = true)
+    private String webhookId; // webhook-id 헤더 (포트원 재전송 시에도 동일하므로 중복 수신 판별에 사용)
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType; // Transaction.Paid, Transaction.Cancelled 등
+
+    @Column(name = "payment_id")
+    private String paymentId; // 포트원 결제 ID (결제 이외의 이벤트는 없음)
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload; // 웹훅 본문 원문
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private PaymentWebhookStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt; // 작업자가 처리를 시작한 시각
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "received_at", nullable = false)
+    private LocalDateTime receivedAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+}
@@ -0,0 +1,18 @@
+package org.example.travellight.entity;
+
+public enum PaymentWebhookStatus {
+    PENDING("처리 대기"),
+    PROCESSING("처리 중"),
+    PROCESSED("처리됨"),
+    FAILED("처리 실패");
+
+    private final String displayName;
+
+    PaymentWebhookStatus(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
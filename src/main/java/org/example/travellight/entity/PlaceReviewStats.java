@@ -0,0 +1,64 @@
+package org.example.travellight.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 제휴점별 활성 리뷰 집계 (리뷰 작성/수정/삭제/상태 변경 시 증분 갱신, 주기적으로 재구축)
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "place_review_stats",
+       uniqueConstraints = @UniqueConstraint(name = "uk_place_review_stats_place", columnNames = {"place_name", "place_address"}),
+       indexes = @Index(name = "idx_place_review_stats_ranking",
+                        columnList = "recommendation_score DESC, average_rating DESC, review_count DESC"))
+public class PlaceReviewStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "place_name", nullable = false)
+    private String placeName;
+
+    @Column(name = "place_address", nullable = false)
+    private String placeAddress;
+
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount;
+
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum;
+
+    // 평점별 리뷰 수
+    @Column(name = "rating1_count", nullable = false)
+    private long rating1Count;
+
+    @Column(name = "rating2_count", nullable = false)
+    private long rating2Count;
+
+    @Column(name = "rating3_count", nullable = false)
+    private long rating3Count;
+
+    @Column(name = "rating4_count", nullable = false)
+    private long rating4Count;
+
+    @Column(name = "rating5_count", nullable = false)
+    private long rating5Count;
+
+    // 집계값에서 계산되는 정렬용 값
+    @Column(name = "average_rating", nullable = false)
+    private double averageRating;
+
+    @Column(name = "recommendation_score", nullable = false)
+    private double recommendationScore; // 평균 평점 * 0.8 + min(리뷰 수 / 5, 1) * 5 * 0.2
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -12,7 +12,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "reservations")
+@Table(name = "reservations", indexes = {
+    @Index(name = "idx_reservation_status_end", columnList = "status, storage_end_date, storage_end_time"),
+    @Index(name = "idx_reservation_created_at_id", columnList = "created_at, id"),
+    @Index(name = "idx_reservation_user_id", columnList = "user_id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -10,7 +10,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "reviews")
+@Table(name = "reviews", indexes = {
+    // 작성자명 검색 후보를 리뷰로 되짚어갈 때 사용
+    @Index(name = "idx_reviews_user_id", columnList = "user_id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
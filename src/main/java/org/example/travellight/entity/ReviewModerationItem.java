@@ -0,0 +1,46 @@
+package org.example.travellight.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 신고된 리뷰 검토 대기열 (리뷰당 한 행, 신고 접수 시 증분 갱신)
+ * 대기 항목 부분 인덱스는 db/migration/V3__review_moderation_queue.sql 참고
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "review_moderation_queue",
+       uniqueConstraints = @UniqueConstraint(name = "uk_review_moderation_queue_review", columnNames = "review_id"))
+public class ReviewModerationItem {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "review_id", nullable = false)
+    private Review review;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private ModerationStatus status;
+
+    // 대기열에 들어온 이후 신고 수
+    @Column(name = "report_count", nullable = false)
+    private int reportCount;
+
+    @Column(name = "first_reported_at", nullable = false)
+    private LocalDateTime firstReportedAt;
+
+    @Column(name = "last_reported_at", nullable = false)
+    private LocalDateTime lastReportedAt;
+
+    @Column(name = "resolved_at")
+    private LocalDateTime resolvedAt;
+}
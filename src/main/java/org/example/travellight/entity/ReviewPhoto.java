@@ -8,7 +8,9 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "review_photos")
+@Table(name = "review_photos", indexes = {
+    @Index(name = "idx_review_photos_filename", columnList = "filename")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -44,6 +46,21 @@ public class ReviewPhoto {
     @Column(name = "mime_type")
     private String mimeType;
     
+    // 원본 이미지 크기 (px)
+    @Column(name = "width")
+    private Integer width;
+    
+    @Column(name = "height")
+    private Integer height;
+    
+    // 화면용 이미지 경로 (긴 변 1280px JPEG)
+    @Column(name = "display_path")
+    private String displayPath;
+    
+    // 썸네일 이미지 경로 (긴 변 320px JPEG)
+    @Column(name = "thumbnail_path")
+    private String thumbnailPath;
+    
     // 사진 순서
     @Column(name = "sort_order")
     private Integer sortOrder;
@@ -0,0 +1,59 @@
+package org.example.travellight.repository;
+
+import org.example.travellight.entity.EmailOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    // 지정한 대기 메일을 전송 중으로 변경하고 변경된 메일의 ID, 유형, 내용, 시도 횟수 반환
+    @Query(value = "UPDATE email_outbox SET status = 'SENDING', attempts = attempts + 1, claimed_at = CURRENT_TIMESTAMP " +
+                   "WHERE id IN (:ids) AND status = 'PENDING' " +
+                   "RETURNING id, email_type, payload, attempts",
+           nativeQuery = true)
+    List<Object[]> claimByIdsReturning(@Param("ids") Collection<Long> ids);
+
+    // 전송 시각이 된 대기 메일을 최대 :limit건 전송 중으로 변경
+    // 다른 작업자가 잡고 있는 행은 건너뛰므로 여러 인스턴스가 동시에 실행해도 같은 메일을 중복 전송하지 않음
+    @Query(value = "UPDATE email_outbox SET status = 'SENDING', attempts = attempts + 1, claimed_at = CURRENT_TIMESTAMP " +
+                   "WHERE id IN (" +
+                   "    SELECT id FROM email_outbox WHERE status = 'PENDING' AND next_attempt_at <= CURRENT_TIMESTAMP " +
+                   "    ORDER BY next_attempt_at LIMIT :limit FOR UPDATE SKIP LOCKED) " +
+                   "AND status = 'PENDING' " +
+                   "RETURNING id, email_type, payload, attempts",
+           nativeQuery = true)
+    List<Object[]> claimDueReturning(@Param("limit") int limit);
+
+    // 전송 완료 처리
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.status = org.example.travellight.entity.EmailOutboxStatus.SENT, " +
+           "e.sentAt = :sentAt, e.lastError = NULL WHERE e.id IN :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    // 재시도 예약 (다음 전송 시각까지 대기)
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.status = org.example.travellight.entity.EmailOutboxStatus.PENDING, " +
+           "e.nextAttemptAt = :nextAttemptAt, e.lastError = :error WHERE e.id = :id")
+    int scheduleRetry(@Param("id") Long id, @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                      @Param("error") String error);
+
+    // 최종 실패 처리
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.status = org.example.travellight.entity.EmailOutboxStatus.FAILED, " +
+           "e.lastError = :error WHERE e.id = :id")
+    int markFailed(@Param("id") Long id, @Param("error") String error);
+
+    // 전송 도중 중단된(작업자 종료 등) 메일을 다시 대기 상태로 변경
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.status = org.example.travellight.entity.EmailOutboxStatus.PENDING " +
+           "WHERE e.status = org.example.travellight.entity.EmailOutboxStatus.SENDING AND e.claimedAt < :before")
+    int releaseStuckSending(@Param("before") LocalDateTime before);
+}
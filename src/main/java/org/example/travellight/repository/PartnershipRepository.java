@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +15,23 @@ import java.util.Optional;
 public interface PartnershipRepository extends JpaRepository<Partnership, Long> {
     Optional<Partnership> findBySubmissionId(String submissionId);
 
+    // 매장명과 주소로 조회 (idx_partnership_business_name_address 사용)
+    Optional<Partnership> findFirstByBusinessNameAndAddressOrderByIdAsc(String businessName, String address);
+    
+    // 승인된 제휴점의 위치 조회 (매장명, 주소, 위도, 경도)
+    @Query("SELECT p.businessName, p.address, p.latitude, p.longitude FROM Partnership p WHERE p.status = 'APPROVED'")
+    List<Object[]> findApprovedLocations();
+
+    // 승인된 제휴점별 최대 보관량과 사용 중인 보관량을 한 번에 집계 (관리자 대시보드용)
+    @Query("SELECT p.businessName, p.address, p.smallBagsAvailable, p.mediumBagsAvailable, p.largeBagsAvailable, " +
+           "COALESCE(SUM(r.smallBags), 0), COALESCE(SUM(r.mediumBags), 0), COALESCE(SUM(r.largeBags), 0) " +
+           "FROM Partnership p LEFT JOIN Reservation r " +
+           "ON r.placeName = p.businessName AND r.placeAddress = p.address AND r.status IN :statuses " +
+           "WHERE p.status = 'APPROVED' " +
+           "GROUP BY p.id, p.businessName, p.address, p.smallBagsAvailable, p.mediumBagsAvailable, p.largeBagsAvailable " +
+           "ORDER BY p.id")
+    List<Object[]> findApprovedStorageUsage(@Param("statuses") Collection<String> statuses);
+
     // 통합 검색 - 사업체명, 주소, 이메일, 전화번호, 제출ID로 검색
     @Query("SELECT p FROM Partnership p " +
            "WHERE LOWER(p.businessName) LIKE LOWER(CONCAT('%', :query, '%')) " +
@@ -1,21 +1,39 @@
 package org.example.travellight.repository;
 
+import org.example.travellight.dto.PaymentHistoryDto;
 import org.example.travellight.entity.Payment;
 import org.example.travellight.entity.Reservation;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
 
+    // PaymentHistoryDto 조회용 SELECT 절 (결제와 예약 컬럼을 한 번의 쿼리로 조회, 필드 순서는 PaymentHistoryDto와 동일)
+    String HISTORY_SELECT = "SELECT new org.example.travellight.dto.PaymentHistoryDto(" +
+            "p.id, r.id, r.reservationNumber, r.placeName, p.paymentId, p.transactionId, p.merchantId, p.storeId, " +
+            "p.paymentMethod, p.paymentProvider, p.easyPayProvider, p.cardCompany, p.cardType, p.cardNumber, p.cardName, " +
+            "p.installmentMonth, p.isInterestFree, p.approvalNumber, p.paymentAmount, p.paymentStatus, p.paymentTime, " +
+            "p.cancelledAt, p.cancelReason, p.refundAmount, p.channelType, p.channelId, p.channelKey, p.channelName, " +
+            "p.pgMerchantId, p.pgTransactionId, p.couponCode, p.couponName, p.couponDiscount, p.currency, " +
+            "p.createdAt, p.updatedAt) " +
+            "FROM Payment p JOIN p.reservation r ";
+
     // 결제 ID로 조회
     Optional<Payment> findByPaymentId(String paymentId);
 
+    // 결제 ID 목록으로 예약과 함께 일괄 조회 (결제 웹훅 반영용)
+    @Query("SELECT p FROM Payment p JOIN FETCH p.reservation WHERE p.paymentId IN :paymentIds")
+    List<Payment> findWithReservationByPaymentIdIn(@Param("paymentIds") Collection<String> paymentIds);
+
     // 예약으로 결제 조회
     Optional<Payment> findByReservation(Reservation reservation);
 
@@ -43,4 +61,15 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
     // 사용자 ID로 모든 결제 내역 조회
     @Query("SELECT p FROM Payment p WHERE p.reservation.user.id = :userId ORDER BY p.createdAt DESC")
     List<Payment> findAllByUserId(@Param("userId") Long userId);
+
+    // 사용자 결제 내역 커서 조회 (생성일시, ID 내림차순, 커서가 null이면 첫 페이지)
+    @Query(HISTORY_SELECT +
+           "WHERE r.user.id = :userId " +
+           "AND (:cursorCreatedAt IS NULL OR p.createdAt < :cursorCreatedAt " +
+           "     OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorId)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PaymentHistoryDto> findHistoryByUserId(@Param("userId") Long userId,
+                                                @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                @Param("cursorId") Long cursorId,
+                                                Pageable pageable);
 }
@@ -0,0 +1,75 @@
+package org.example.travellight.repository;
+
+import org.example.travellight.entity.PaymentWebhookInbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PaymentWebhookInboxRepository extends JpaRepository<PaymentWebhookInbox, Long> {
+
+    // 웹훅 기록 (같은 webhook-id가 이미 있으면 무시하고 빈 결과 반환)
+    @Query(value = "INSERT INTO payment_webhook_inbox " +
+                   "(webhook_id, event_type, payment_id, payload, status, attempts, next_attempt_at, received_at) " +
+                   "VALUES (:webhookId, :eventType, :paymentId, :payload, 'PENDING', 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP) " +
+                   "ON CONFLICT (webhook_id) DO NOTHING " +
+                   "RETURNING id",
+           nativeQuery = true)
+    List<Long> insertIfAbsent(@Param("webhookId") String webhookId, @Param("eventType") String eventType,
+                              @Param("paymentId") String paymentId, @Param("payload") String payload);
+
+    // 지정한 대기 웹훅을 처리 중으로 변경하고 변경된 웹훅의 ID, 결제 ID, 시도 횟수 반환
+    @Query(value = "UPDATE payment_webhook_inbox SET status = 'PROCESSING', attempts = attempts + 1, claimed_at = CURRENT_TIMESTAMP " +
+                   "WHERE id IN (:ids) AND status = 'PENDING' " +
+                   "RETURNING id, payment_id, attempts",
+           nativeQuery = true)
+    List<Object[]> claimByIdsReturning(@Param("ids") Collection<Long> ids);
+
+    // 처리 시각이 된 대기 웹훅을 최대 :limit건 처리 중으로 변경
+    // 다른 작업자가 잡고 있는 행은 건너뛰므로 여러 인스턴스가 동시에 실행해도 같은 웹훅을 중복 처리하지 않음
+    @Query(value = "UPDATE payment_webhook_inbox SET status = 'PROCESSING', attempts = attempts + 1, claimed_at = CURRENT_TIMESTAMP " +
+                   "WHERE id IN (" +
+                   "    SELECT id FROM payment_webhook_inbox WHERE status = 'PENDING' AND next_attempt_at <= CURRENT_TIMESTAMP " +
+                   "    ORDER BY next_attempt_at LIMIT :limit FOR UPDATE SKIP LOCKED) " +
+                   "AND status = 'PENDING' " +
+                   "RETURNING id, payment_id, attempts",
+           nativeQuery = true)
+    List<Object[]> claimDueReturning(@Param("limit") int limit);
+
+    // 결제 ID별 처리 대기/처리 중인 웹훅 존재 여부
+    @Query("SELECT COUNT(w) > 0 FROM PaymentWebhookInbox w WHERE w.paymentId = :paymentId " +
+           "AND w.status IN (org.example.travellight.entity.PaymentWebhookStatus.PENDING, " +
+           "org.example.travellight.entity.PaymentWebhookStatus.PROCESSING)")
+    boolean existsUnprocessedByPaymentId(@Param("paymentId") String paymentId);
+
+    // 처리 완료
+    @Modifying
+    @Query("UPDATE PaymentWebhookInbox w SET w.status = org.example.travellight.entity.PaymentWebhookStatus.PROCESSED, " +
+           "w.processedAt = :processedAt, w.lastError = NULL WHERE w.id IN :ids")
+    int markProcessed(@Param("ids") Collection<Long> ids, @Param("processedAt") LocalDateTime processedAt);
+
+    // 재시도 예약 (다음 처리 시각까지 대기)
+    @Modifying
+    @Query("UPDATE PaymentWebhookInbox w SET w.status = org.example.travellight.entity.PaymentWebhookStatus.PENDING, " +
+           "w.nextAttemptAt = :nextAttemptAt, w.lastError = :error WHERE w.id = :id")
+    int scheduleRetry(@Param("id") Long id, @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                      @Param("error") String error);
+
+    // 최종 실패 처리
+    @Modifying
+    @Query("UPDATE PaymentWebhookInbox w SET w.status = org.example.travellight.entity.PaymentWebhookStatus.FAILED, " +
+           "w.lastError = :error WHERE w.id = :id")
+    int markFailed(@Param("id") Long id, @Param("error") String error);
+
+    // 처리 도중 중단된(작업자 종료 등) 웹훅을 다시 대기 상태로 변경
+    @Modifying
+    @Query("UPDATE PaymentWebhookInbox w SET w.status = org.example.travellight.entity.PaymentWebhookStatus.PENDING " +
+           "WHERE w.status = org.example.travellight.entity.PaymentWebhookStatus.PROCESSING AND w.claimedAt < :before")
+    int releaseStuckProcessing(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,79 @@
+package org.example.travellight.repository;
+
+import org.example.travellight.entity.PlaceReviewStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PlaceReviewStatsRepository extends JpaRepository<PlaceReviewStats, Long> {
+
+    // 평균 평점, 추천 점수 계산식 (findTopRatedPlaces와 동일)
+    String DERIVED_COLUMNS =
+            "average_rating = CASE WHEN review_count > 0 THEN CAST(rating_sum AS DOUBLE PRECISION) / review_count ELSE 0 END, " +
+            "recommendation_score = CASE WHEN review_count > 0 " +
+            "    THEN (CAST(rating_sum AS DOUBLE PRECISION) / review_count) * 0.8 + LEAST(review_count / 5.0, 1.0) * 5 * 0.2 " +
+            "    ELSE 0 END, " +
+            "updated_at = CURRENT_TIMESTAMP ";
+
+    // 제휴점 집계 조회
+    Optional<PlaceReviewStats> findByPlaceNameAndPlaceAddress(String placeName, String placeAddress);
+
+    // 리뷰가 있는 제휴점 집계 전체 조회 (순위 적재용)
+    List<PlaceReviewStats> findByReviewCountGreaterThanEqual(long minReviewCount);
+
+    // 제휴점 집계에 증감분 반영 (없으면 생성)
+    @Modifying
+    @Query(value = "INSERT INTO place_review_stats (place_name, place_address, review_count, rating_sum, " +
+                   "    rating1_count, rating2_count, rating3_count, rating4_count, rating5_count, " +
+                   "    average_rating, recommendation_score, updated_at) " +
+                   "VALUES (:placeName, :placeAddress, :countDelta, :sumDelta, :r1, :r2, :r3, :r4, :r5, 0, 0, CURRENT_TIMESTAMP) " +
+                   "ON CONFLICT (place_name, place_address) DO UPDATE SET " +
+                   "    review_count = place_review_stats.review_count + EXCLUDED.review_count, " +
+                   "    rating_sum = place_review_stats.rating_sum + EXCLUDED.rating_sum, " +
+                   "    rating1_count = place_review_stats.rating1_count + EXCLUDED.rating1_count, " +
+                   "    rating2_count = place_review_stats.rating2_count + EXCLUDED.rating2_count, " +
+                   "    rating3_count = place_review_stats.rating3_count + EXCLUDED.rating3_count, " +
+                   "    rating4_count = place_review_stats.rating4_count + EXCLUDED.rating4_count, " +
+                   "    rating5_count = place_review_stats.rating5_count + EXCLUDED.rating5_count",
+           nativeQuery = true)
+    int applyDelta(@Param("placeName") String placeName, @Param("placeAddress") String placeAddress,
+                   @Param("countDelta") long countDelta, @Param("sumDelta") long sumDelta,
+                   @Param("r1") long r1, @Param("r2") long r2, @Param("r3") long r3,
+                   @Param("r4") long r4, @Param("r5") long r5);
+
+    // 제휴점 평균 평점, 추천 점수 재계산
+    @Modifying
+    @Query(value = "UPDATE place_review_stats SET " + DERIVED_COLUMNS +
+                   "WHERE place_name = :placeName AND place_address = :placeAddress",
+           nativeQuery = true)
+    int refreshDerived(@Param("placeName") String placeName, @Param("placeAddress") String placeAddress);
+
+    // 전체 집계 삭제 (재구축용)
+    @Modifying
+    @Query(value = "DELETE FROM place_review_stats", nativeQuery = true)
+    int deleteAllStats();
+
+    // 리뷰 테이블에서 활성 리뷰 집계를 다시 생성 (재구축용)
+    @Modifying
+    @Query(value = "INSERT INTO place_review_stats (place_name, place_address, review_count, rating_sum, " +
+                   "    rating1_count, rating2_count, rating3_count, rating4_count, rating5_count, " +
+                   "    average_rating, recommendation_score, updated_at) " +
+                   "SELECT place_name, place_address, COUNT(*), SUM(rating), " +
+                   "    COUNT(*) FILTER (WHERE rating = 1), COUNT(*) FILTER (WHERE rating = 2), " +
+                   "    COUNT(*) FILTER (WHERE rating = 3), COUNT(*) FILTER (WHERE rating = 4), " +
+                   "    COUNT(*) FILTER (WHERE rating = 5), 0, 0, CURRENT_TIMESTAMP " +
+                   "FROM reviews WHERE status = 'ACTIVE' GROUP BY place_name, place_address",
+           nativeQuery = true)
+    int insertFromReviews();
+
+    // 전체 제휴점 평균 평점, 추천 점수 재계산 (재구축용)
+    @Modifying
+    @Query(value = "UPDATE place_review_stats SET " + DERIVED_COLUMNS, nativeQuery = true)
+    int refreshAllDerived();
+}
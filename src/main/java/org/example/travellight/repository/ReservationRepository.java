@@ -1,25 +1,45 @@
 package org.example.travellight.repository;
 
+import org.example.travellight.dto.ReservationDto;
 import org.example.travellight.entity.Reservation;
+import jakarta.persistence.QueryHint;
 import org.example.travellight.entity.User;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
     
+    // ReservationDto 조회용 SELECT 절 (예약과 사용자 컬럼을 한 번의 쿼리로 조회, 필드 순서는 ReservationDto와 동일)
+    String DTO_SELECT = "SELECT new org.example.travellight.dto.ReservationDto(" +
+            "r.id, u.id, u.email, u.name, r.placeName, r.placeAddress, r.reservationNumber, " +
+            "r.storageDate, r.storageEndDate, r.storageStartTime, r.storageEndTime, " +
+            "r.smallBags, r.mediumBags, r.largeBags, r.totalPrice, r.storageType, r.status, " +
+            "r.paymentId, r.paymentMethod, r.paymentAmount, r.paymentTime, r.paymentStatus, " +
+            "r.paymentProvider, r.cardCompany, r.cardType, r.createdAt) " +
+            "FROM Reservation r JOIN r.user u ";
+    
     // 사용자의 모든 예약 조회
     List<Reservation> findByUser(User user);
     
     // 예약번호로 예약 조회
     Optional<Reservation> findByReservationNumber(String reservationNumber);
     
+    // 예약번호 목록으로 예약 일괄 조회 (결제 웹훅 반영용)
+    List<Reservation> findByReservationNumberIn(Collection<String> reservationNumbers);
+    
     // 사용자 ID로 예약 조회
     List<Reservation> findByUserId(Long userId);
     
@@ -33,27 +53,124 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
     @Query("SELECT r FROM Reservation r ORDER BY r.createdAt DESC")
     List<Reservation> findRecentReservations(Pageable pageable);
     
-    // 특정 매장의 만료된 예약 조회
-    @Query("SELECT r FROM Reservation r WHERE r.placeName = :placeName AND r.placeAddress = :placeAddress " +
-           "AND r.status = 'RESERVED' " +
-           "AND ((r.storageEndDate < CURRENT_DATE) OR " +
-           "(r.storageEndDate = CURRENT_DATE AND r.storageEndTime < CURRENT_TIME))")
-    List<Reservation> findExpiredReservationsForStore(@Param("placeName") String placeName, 
-                                                     @Param("placeAddress") String placeAddress);
-    
-    // 특정 매장의 만료된 예약들을 배치로 COMPLETED 상태로 업데이트
-    @Modifying
-    @Query("UPDATE Reservation r SET r.status = 'COMPLETED', r.updatedAt = CURRENT_TIMESTAMP " +
-           "WHERE r.placeName = :placeName AND r.placeAddress = :placeAddress " +
-           "AND r.status = 'RESERVED' " +
-           "AND ((r.storageEndDate < CURRENT_DATE) OR " +
-           "(r.storageEndDate = CURRENT_DATE AND r.storageEndTime < CURRENT_TIME))")
-    int updateExpiredReservationsForStoreToCompleted(@Param("placeName") String placeName,
-                                                    @Param("placeAddress") String placeAddress);
+    // 지정 시각까지 보관이 끝나는 RESERVED 예약 (만료 엔진 최초 적재용, 이미 지난 예약 포함)
+    @Query("SELECT r.id, r.storageEndDate, r.storageEndTime FROM Reservation r " +
+           "WHERE r.status = 'RESERVED' AND r.storageEndDate IS NOT NULL " +
+           "AND ((r.storageEndDate < :toDate) OR (r.storageEndDate = :toDate AND r.storageEndTime <= :toTime))")
+    List<Object[]> findReservedEndingUpTo(@Param("toDate") LocalDate toDate,
+                                          @Param("toTime") LocalTime toTime);
+    
+    // 지정 구간 안에 보관이 끝나는 RESERVED 예약 (만료 엔진 추가 적재용)
+    @Query("SELECT r.id, r.storageEndDate, r.storageEndTime FROM Reservation r " +
+           "WHERE r.status = 'RESERVED' " +
+           "AND ((r.storageEndDate > :fromDate) OR (r.storageEndDate = :fromDate AND r.storageEndTime > :fromTime)) " +
+           "AND ((r.storageEndDate < :toDate) OR (r.storageEndDate = :toDate AND r.storageEndTime <= :toTime))")
+    List<Object[]> findReservedEndingBetween(@Param("fromDate") LocalDate fromDate,
+                                             @Param("fromTime") LocalTime fromTime,
+                                             @Param("toDate") LocalDate toDate,
+                                             @Param("toTime") LocalTime toTime);
+    
+    // 지정한 RESERVED 예약들을 COMPLETED로 일괄 변경하고 변경된 예약의 매장/가방 수 반환
+    @Query(value = "UPDATE reservations SET status = 'COMPLETED', updated_at = CURRENT_TIMESTAMP " +
+                   "WHERE id IN (:ids) AND status = 'RESERVED' " +
+                   "RETURNING id, place_name, place_address, small_bags, medium_bags, large_bags",
+           nativeQuery = true)
+    List<Object[]> completeReservedByIdsReturning(@Param("ids") Collection<Long> ids);
+    
+    // 전체 매장의 만료된 RESERVED 예약을 최대 :limit건 COMPLETED로 변경하고 변경된 예약의 매장/가방 수 반환
+    // 다른 트랜잭션이 잡고 있는 행은 건너뛰므로 여러 청크를 반복 실행해도 서로 막히지 않음
+    @Query(value = "UPDATE reservations SET status = 'COMPLETED', updated_at = CURRENT_TIMESTAMP " +
+                   "WHERE id IN (SELECT id FROM reservations " +
+                   "             WHERE status = 'RESERVED' " +
+                   "             AND (storage_end_date < CURRENT_DATE " +
+                   "                  OR (storage_end_date = CURRENT_DATE AND storage_end_time < LOCALTIME)) " +
+                   "             ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED) " +
+                   "AND status = 'RESERVED' " +
+                   "RETURNING id, place_name, place_address, small_bags, medium_bags, large_bags",
+           nativeQuery = true)
+    List<Object[]> completeExpiredReservedReturning(@Param("limit") int limit);
+    
+    // 매장별 사용 중인 가방 수 집계 (용량 장부 초기화/대사용)
+    @Query("SELECT r.placeName, r.placeAddress, COALESCE(SUM(r.smallBags), 0), " +
+           "COALESCE(SUM(r.mediumBags), 0), COALESCE(SUM(r.largeBags), 0) " +
+           "FROM Reservation r WHERE r.status IN :statuses " +
+           "GROUP BY r.placeName, r.placeAddress")
+    List<Object[]> sumBagsGroupByPlaceAndStatusIn(@Param("statuses") Collection<String> statuses);
+    
+    // 특정 매장의 사용 중인 가방 수 집계
+    @Query("SELECT COALESCE(SUM(r.smallBags), 0), COALESCE(SUM(r.mediumBags), 0), COALESCE(SUM(r.largeBags), 0) " +
+           "FROM Reservation r WHERE r.placeName = :placeName AND r.placeAddress = :placeAddress " +
+           "AND r.status IN :statuses")
+    List<Object[]> sumBagsByPlaceAndStatusIn(@Param("placeName") String placeName,
+                                             @Param("placeAddress") String placeAddress,
+                                             @Param("statuses") Collection<String> statuses);
     
     // User를 fetch join하여 모든 예약 조회 (통계용)
     @Query("SELECT r FROM Reservation r JOIN FETCH r.user")
     List<Reservation> findAllWithUser();
+    
+    // 리뷰 작성 검증용 예약 정보 (소유자 ID, 상태, 매장명, 주소, 활성 리뷰 존재 여부, 예약번호)
+    @Query("SELECT r.user.id, r.status, r.placeName, r.placeAddress, " +
+           "CASE WHEN EXISTS (SELECT 1 FROM Review v WHERE v.reservation.id = r.id " +
+           "                  AND v.status = org.example.travellight.entity.ReviewStatus.ACTIVE) " +
+           "THEN true ELSE false END, r.reservationNumber " +
+           "FROM Reservation r WHERE r.id = :id")
+    List<Object[]> findReviewWriteCheck(@Param("id") Long id);
+    
+    // ID로 예약 DTO 조회
+    @Query(DTO_SELECT + "WHERE r.id = :id")
+    Optional<ReservationDto> findDtoById(@Param("id") Long id);
+    
+    // 예약번호로 예약 DTO 조회
+    @Query(DTO_SELECT + "WHERE r.reservationNumber = :reservationNumber")
+    Optional<ReservationDto> findDtoByReservationNumber(@Param("reservationNumber") String reservationNumber);
+    
+    // 사용자 ID로 예약 DTO 조회
+    @Query(DTO_SELECT + "WHERE u.id = :userId")
+    List<ReservationDto> findDtosByUserId(@Param("userId") Long userId);
+    
+    // 매장명으로 예약 DTO 조회
+    @Query(DTO_SELECT + "WHERE r.placeName = :placeName")
+    List<ReservationDto> findDtosByPlaceName(@Param("placeName") String placeName);
+    
+    // 최근 예약 DTO 조회 (생성일 기준 내림차순)
+    @Query(DTO_SELECT + "ORDER BY r.createdAt DESC")
+    List<ReservationDto> findRecentDtos(Pageable pageable);
+    
+    // 전체 예약 DTO 조회
+    @Query(DTO_SELECT)
+    List<ReservationDto> findAllDtos();
+    
+    // 관리자용 예약 목록 커서 조회 (생성일시, ID 내림차순, 필터는 null이면 미적용)
+    @Query(DTO_SELECT +
+           "WHERE (:status IS NULL OR r.status = :status) " +
+           "AND (:placeName IS NULL OR r.placeName = :placeName) " +
+           "AND (:placeAddress IS NULL OR r.placeAddress = :placeAddress) " +
+           "AND (:fromDate IS NULL OR r.storageDate >= :fromDate) " +
+           "AND (:toDate IS NULL OR r.storageDate <= :toDate) " +
+           "AND (:cursorCreatedAt IS NULL OR r.createdAt < :cursorCreatedAt " +
+           "     OR (r.createdAt = :cursorCreatedAt AND r.id < :cursorId)) " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<ReservationDto> findAdminPageByCursor(@Param("status") String status,
+                                               @Param("placeName") String placeName,
+                                               @Param("placeAddress") String placeAddress,
+                                               @Param("fromDate") LocalDate fromDate,
+                                               @Param("toDate") LocalDate toDate,
+                                               @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                               @Param("cursorId") Long cursorId,
+                                               Pageable pageable);
+    
+    // 매장별 회원별 예약 건수 집계 (매장명, 주소, 회원 ID, 이름, 이메일, 예약 건수)
+    @Query("SELECT r.placeName, r.placeAddress, u.id, u.name, u.email, COUNT(r) FROM Reservation r JOIN r.user u " +
+           "GROUP BY r.placeName, r.placeAddress, u.id, u.name, u.email")
+    List<Object[]> countByStoreAndUser();
+    
+    // 매장별 회원별 예약 건수 집계 스트림 (매장 순, 매장 안에서는 예약 건수 내림차순)
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("SELECT r.placeName, r.placeAddress, u.id, u.name, u.email, COUNT(r) FROM Reservation r JOIN r.user u " +
+           "GROUP BY r.placeName, r.placeAddress, u.id, u.name, u.email " +
+           "ORDER BY r.placeName, r.placeAddress, COUNT(r) DESC, u.id")
+    Stream<Object[]> streamCountByStoreAndUser();
 
     // 통합 검색 - 예약번호, 사용자명, 장소명, 주소로 검색
     @Query("SELECT r FROM Reservation r JOIN r.user u " +
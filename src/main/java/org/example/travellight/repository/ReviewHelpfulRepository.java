@@ -4,8 +4,13 @@ import org.example.travellight.entity.Review;
 import org.example.travellight.entity.ReviewHelpful;
 import org.example.travellight.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -14,12 +19,34 @@ public interface ReviewHelpfulRepository extends JpaRepository<ReviewHelpful, Lo
     // 특정 사용자가 특정 리뷰에 도움이 됨을 눌렀는지 확인
     boolean existsByReviewAndUser(Review review, User user);
     
+    // 지정한 리뷰 중 특정 사용자가 도움이 됨을 누른 리뷰 ID 조회 (목록 화면용)
+    @Query("SELECT h.review.id FROM ReviewHelpful h WHERE h.user.id = :userId AND h.review.id IN :reviewIds")
+    List<Long> findReviewIdsByUserIdAndReviewIdIn(@Param("userId") Long userId,
+                                                  @Param("reviewIds") Collection<Long> reviewIds);
+    
     // 특정 사용자가 특정 리뷰에 누른 도움이 됨 조회
     Optional<ReviewHelpful> findByReviewAndUser(Review review, User user);
     
+    // 도움이 됨 기록 (이미 있으면 무시, 기록된 행 수 반환)
+    @Modifying
+    @Query(value = "INSERT INTO review_helpful (review_id, user_id, created_at) " +
+                   "VALUES (:reviewId, :userId, CURRENT_TIMESTAMP) ON CONFLICT DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("reviewId") Long reviewId, @Param("userId") Long userId);
+    
+    // 도움이 됨 취소 (삭제된 행 수 반환)
+    @Modifying
+    @Query("DELETE FROM ReviewHelpful h WHERE h.review.id = :reviewId AND h.user.id = :userId")
+    int deleteByReviewIdAndUserId(@Param("reviewId") Long reviewId, @Param("userId") Long userId);
+    
     // 특정 리뷰의 도움이 됨 수 계산
     long countByReview(Review review);
     
     // 특정 리뷰의 모든 도움이 됨 기록 삭제
     void deleteByReview(Review review);
+    
+    // 여러 리뷰의 도움이 됨 기록 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM ReviewHelpful h WHERE h.review.id IN :reviewIds")
+    int deleteByReviewIdIn(@Param("reviewIds") Collection<Long> reviewIds);
 }
@@ -0,0 +1,63 @@
+package org.example.travellight.repository;
+
+import org.example.travellight.entity.ReviewModerationItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ReviewModerationRepository extends JpaRepository<ReviewModerationItem, Long> {
+
+    // 시간당 신고 수 (첫 신고 이후 경과 시간 기준, 1시간 미만은 1시간으로 계산)
+    String REPORTS_PER_HOUR =
+            "(q.report_count / GREATEST(EXTRACT(EPOCH FROM (CAST(:now AS timestamp) - q.first_reported_at)) / 3600.0, 1.0))";
+
+    // 신고 접수 반영 (검토 완료된 리뷰가 다시 신고되면 새로 대기열에 올림)
+    @Modifying
+    @Query(value = "INSERT INTO review_moderation_queue (review_id, status, report_count, first_reported_at, last_reported_at) " +
+                   "VALUES (:reviewId, 'PENDING', 1, :now, :now) " +
+                   "ON CONFLICT (review_id) DO UPDATE SET " +
+                   "    report_count = CASE WHEN review_moderation_queue.status = 'PENDING' " +
+                   "                        THEN review_moderation_queue.report_count + 1 ELSE 1 END, " +
+                   "    first_reported_at = CASE WHEN review_moderation_queue.status = 'PENDING' " +
+                   "                             THEN review_moderation_queue.first_reported_at ELSE EXCLUDED.first_reported_at END, " +
+                   "    last_reported_at = EXCLUDED.last_reported_at, " +
+                   "    status = 'PENDING', " +
+                   "    resolved_at = NULL",
+           nativeQuery = true)
+    int recordReport(@Param("reviewId") Long reviewId, @Param("now") LocalDateTime now);
+
+    // 검토 대기 리뷰 (리뷰 ID, 신고 수, 시간당 신고 수, 첫 신고 시각, 마지막 신고 시각) - 신고 속도 순
+    @Query(value = "SELECT q.review_id, q.report_count, CAST(" + REPORTS_PER_HOUR + " AS double precision) AS velocity, " +
+                   "       q.first_reported_at, q.last_reported_at " +
+                   "FROM review_moderation_queue q " +
+                   "WHERE q.status = 'PENDING' AND q.report_count >= :minReports " +
+                   "ORDER BY velocity DESC, q.last_reported_at DESC, q.review_id DESC " +
+                   "LIMIT :limit OFFSET :offset",
+           nativeQuery = true)
+    List<Object[]> findPendingByVelocity(@Param("minReports") int minReports, @Param("now") LocalDateTime now,
+                                         @Param("limit") int limit, @Param("offset") long offset);
+
+    // 검토 대기 리뷰 수
+    @Query(value = "SELECT COUNT(*) FROM review_moderation_queue q " +
+                   "WHERE q.status = 'PENDING' AND q.report_count >= :minReports",
+           nativeQuery = true)
+    long countPending(@Param("minReports") int minReports);
+
+    // 검토 완료 처리
+    @Modifying
+    @Query("UPDATE ReviewModerationItem q SET q.status = org.example.travellight.entity.ModerationStatus.RESOLVED, " +
+           "q.resolvedAt = :now WHERE q.review.id = :reviewId AND q.status = org.example.travellight.entity.ModerationStatus.PENDING")
+    int resolve(@Param("reviewId") Long reviewId, @Param("now") LocalDateTime now);
+
+    // 여러 리뷰의 대기열 항목 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM ReviewModerationItem q WHERE q.review.id IN :reviewIds")
+    int deleteByReviewIdIn(@Param("reviewIds") Collection<Long> reviewIds);
+}
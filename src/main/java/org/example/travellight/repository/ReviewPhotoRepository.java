@@ -2,8 +2,12 @@ package org.example.travellight.repository;
 
 import org.example.travellight.entity.ReviewPhoto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -12,9 +16,32 @@ public interface ReviewPhotoRepository extends JpaRepository<ReviewPhoto, Long>
     // 특정 리뷰의 사진 조회 (순서대로)
     List<ReviewPhoto> findByReviewIdOrderBySortOrderAsc(Long reviewId);
     
+    // 여러 리뷰의 사진을 한 번에 조회 (리뷰별, 순서대로)
+    @Query("SELECT p FROM ReviewPhoto p WHERE p.review.id IN :reviewIds ORDER BY p.review.id, p.sortOrder")
+    List<ReviewPhoto> findByReviewIdIn(@Param("reviewIds") Collection<Long> reviewIds);
+    
     // 특정 리뷰의 사진 조회 (간단 버전)
     List<ReviewPhoto> findByReviewId(Long reviewId);
     
+    // 변환 완료된 이미지 경로와 크기 반영
+    @Modifying
+    @Query("UPDATE ReviewPhoto p SET p.displayPath = :displayPath, p.thumbnailPath = :thumbnailPath, " +
+           "p.width = COALESCE(:width, p.width), p.height = COALESCE(:height, p.height) WHERE p.filename = :filename")
+    int updateVariants(@Param("filename") String filename,
+                       @Param("displayPath") String displayPath,
+                       @Param("thumbnailPath") String thumbnailPath,
+                       @Param("width") Integer width,
+                       @Param("height") Integer height);
+    
     // 특정 리뷰의 사진 삭제
     void deleteByReviewId(Long reviewId);
+    
+    // 여러 리뷰의 사진 파일명 조회 (파일 정리용)
+    @Query("SELECT p.filename FROM ReviewPhoto p WHERE p.review.id IN :reviewIds")
+    List<String> findFilenamesByReviewIdIn(@Param("reviewIds") Collection<Long> reviewIds);
+    
+    // 여러 리뷰의 사진 일괄 삭제 (엔티티를 읽지 않고 한 번에 삭제)
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM ReviewPhoto p WHERE p.review.id IN :reviewIds")
+    int deleteByReviewIdIn(@Param("reviewIds") Collection<Long> reviewIds);
 }
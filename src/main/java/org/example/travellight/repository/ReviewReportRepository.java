@@ -7,8 +7,13 @@ import org.example.travellight.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -17,6 +22,11 @@ public interface ReviewReportRepository extends JpaRepository<ReviewReport, Long
     // 특정 사용자가 특정 리뷰를 신고했는지 확인
     boolean existsByReviewAndUser(Review review, User user);
     
+    // 지정한 리뷰 중 특정 사용자가 신고한 리뷰 ID 조회 (목록 화면용)
+    @Query("SELECT r.review.id FROM ReviewReport r WHERE r.user.id = :userId AND r.review.id IN :reviewIds")
+    List<Long> findReviewIdsByUserIdAndReviewIdIn(@Param("userId") Long userId,
+                                                  @Param("reviewIds") Collection<Long> reviewIds);
+    
     // 특정 사용자가 특정 리뷰에 한 신고 조회
     Optional<ReviewReport> findByReviewAndUser(Review review, User user);
     
@@ -31,4 +41,9 @@ public interface ReviewReportRepository extends JpaRepository<ReviewReport, Long
     
     // 특정 리뷰의 모든 신고 기록 삭제
     void deleteByReview(Review review);
+    
+    // 여러 리뷰의 신고 기록 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM ReviewReport r WHERE r.review.id IN :reviewIds")
+    int deleteByReviewIdIn(@Param("reviewIds") Collection<Long> reviewIds);
 }
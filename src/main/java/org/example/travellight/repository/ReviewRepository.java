@@ -6,36 +6,87 @@ import org.example.travellight.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
     
+    // 목록 조회는 작성자, 예약, 답변 관리자를 함께 조회하여 리뷰별 지연 로딩을 막음
+    
     // 특정 제휴점의 활성화된 리뷰 조회 (평점 순)
+    @Query(value = "SELECT r FROM Review r JOIN FETCH r.user JOIN FETCH r.reservation LEFT JOIN FETCH r.adminUser " +
+                   "WHERE r.placeName = :placeName AND r.placeAddress = :placeAddress AND r.status = :status " +
+                   "ORDER BY r.rating DESC, r.createdAt DESC",
+           countQuery = "SELECT COUNT(r) FROM Review r " +
+                        "WHERE r.placeName = :placeName AND r.placeAddress = :placeAddress AND r.status = :status")
     Page<Review> findByPlaceNameAndPlaceAddressAndStatusOrderByRatingDescCreatedAtDesc(
-            String placeName, String placeAddress, ReviewStatus status, Pageable pageable);
+            @Param("placeName") String placeName, @Param("placeAddress") String placeAddress,
+            @Param("status") ReviewStatus status, Pageable pageable);
     
     // 특정 제휴점의 활성화된 리뷰 조회 (최신순)
+    @Query(value = "SELECT r FROM Review r JOIN FETCH r.user JOIN FETCH r.reservation LEFT JOIN FETCH r.adminUser " +
+                   "WHERE r.placeName = :placeName AND r.placeAddress = :placeAddress AND r.status = :status " +
+                   "ORDER BY r.createdAt DESC",
+           countQuery = "SELECT COUNT(r) FROM Review r " +
+                        "WHERE r.placeName = :placeName AND r.placeAddress = :placeAddress AND r.status = :status")
     Page<Review> findByPlaceNameAndPlaceAddressAndStatusOrderByCreatedAtDesc(
-            String placeName, String placeAddress, ReviewStatus status, Pageable pageable);
+            @Param("placeName") String placeName, @Param("placeAddress") String placeAddress,
+            @Param("status") ReviewStatus status, Pageable pageable);
     
     // 사용자의 리뷰 조회
-    Page<Review> findByUserAndStatusOrderByCreatedAtDesc(User user, ReviewStatus status, Pageable pageable);
+    @Query(value = "SELECT r FROM Review r JOIN FETCH r.user JOIN FETCH r.reservation LEFT JOIN FETCH r.adminUser " +
+                   "WHERE r.user = :user AND r.status = :status ORDER BY r.createdAt DESC",
+           countQuery = "SELECT COUNT(r) FROM Review r WHERE r.user = :user AND r.status = :status")
+    Page<Review> findByUserAndStatusOrderByCreatedAtDesc(@Param("user") User user, @Param("status") ReviewStatus status,
+                                                         Pageable pageable);
     
     // 사용자의 모든 리뷰 조회 (관리자용, 상태 관계없이)
-    Page<Review> findByUserOrderByCreatedAtDesc(User user, Pageable pageable);
+    @Query(value = "SELECT r FROM Review r JOIN FETCH r.user JOIN FETCH r.reservation LEFT JOIN FETCH r.adminUser " +
+                   "WHERE r.user = :user ORDER BY r.createdAt DESC",
+           countQuery = "SELECT COUNT(r) FROM Review r WHERE r.user = :user")
+    Page<Review> findByUserOrderByCreatedAtDesc(@Param("user") User user, Pageable pageable);
     
+    // 신고가 많은 리뷰 조회 (관리자용)
+    @Query("SELECT r FROM Review r JOIN FETCH r.user JOIN FETCH r.reservation LEFT JOIN FETCH r.adminUser " +
+           "WHERE r.reportCount >= :threshold AND r.status = :status ORDER BY r.reportCount DESC, r.createdAt DESC")
+    List<Review> findReviewsWithHighReports(@Param("threshold") int threshold, @Param("status") ReviewStatus status);
+
     // 예약에 대한 리뷰 존재 여부 확인
     boolean existsByReservationIdAndStatus(Long reservationId, ReviewStatus status);
     
     // 예약에 대한 활성화된 리뷰 조회
     Optional<Review> findByReservationIdAndStatus(Long reservationId, ReviewStatus status);
     
+    // 리뷰의 제휴점 (매장명, 주소) 조회
+    @Query("SELECT r.placeName, r.placeAddress FROM Review r WHERE r.id = :reviewId")
+    List<Object[]> findPlaceById(@Param("reviewId") Long reviewId);
+    
+    // 여러 예약의 리뷰 조회 (상태 무관, 일괄 삭제용)
+    @Query("SELECT r FROM Review r WHERE r.reservation.id IN :reservationIds")
+    List<Review> findByReservationIdIn(@Param("reservationIds") Collection<Long> reservationIds);
+    
+    // 리뷰 일괄 삭제 (사진/도움이 됨/신고 기록을 먼저 삭제해야 함)
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Review r WHERE r.id IN :reviewIds")
+    int deleteByIdIn(@Param("reviewIds") Collection<Long> reviewIds);
+    
+    // 도움이 됨 수 증감 (0 미만으로 내려가지 않음)
+    @Modifying
+    @Query("UPDATE Review r SET r.helpfulCount = GREATEST(r.helpfulCount + :delta, 0) WHERE r.id = :id")
+    int addHelpfulCount(@Param("id") Long id, @Param("delta") int delta);
+    
+    // 신고 수 증감 (0 미만으로 내려가지 않음)
+    @Modifying
+    @Query("UPDATE Review r SET r.reportCount = GREATEST(r.reportCount + :delta, 0) WHERE r.id = :id")
+    int addReportCount(@Param("id") Long id, @Param("delta") int delta);
+    
     // 특정 제휴점의 평균 평점 계산
     @Query("SELECT AVG(r.rating) FROM Review r WHERE r.placeName = :placeName AND r.placeAddress = :placeAddress AND r.status = :status")
     Double getAverageRatingByPlace(@Param("placeName") String placeName, 
@@ -52,11 +103,10 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     long countByPlaceNameAndPlaceAddressAndStatus(String placeName, String placeAddress, ReviewStatus status);
     
     // 최근 리뷰 조회 (관리자용)
-    Page<Review> findByStatusOrderByCreatedAtDesc(ReviewStatus status, Pageable pageable);
-    
-    // 신고가 많은 리뷰 조회 (관리자용)
-    @Query("SELECT r FROM Review r WHERE r.reportCount >= :threshold AND r.status = :status ORDER BY r.reportCount DESC, r.createdAt DESC")
-    List<Review> findReviewsWithHighReports(@Param("threshold") int threshold, @Param("status") ReviewStatus status);
+    @Query(value = "SELECT r FROM Review r JOIN FETCH r.user JOIN FETCH r.reservation LEFT JOIN FETCH r.adminUser " +
+                   "WHERE r.status = :status ORDER BY r.createdAt DESC",
+           countQuery = "SELECT COUNT(r) FROM Review r WHERE r.status = :status")
+    Page<Review> findByStatusOrderByCreatedAtDesc(@Param("status") ReviewStatus status, Pageable pageable);
     
     // 특정 사용자가 특정 예약에 대해 작성한 리뷰 조회
     Optional<Review> findByUserAndReservationIdAndStatus(User user, Long reservationId, ReviewStatus status);
@@ -71,10 +121,43 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     List<Object[]> findTopRatedPlaces(@Param("status") ReviewStatus status,
                                      @Param("minReviewCount") long minReviewCount);
 
-    // 통합 검색 - 사용자명, 장소명, 내용으로 검색
-    @Query("SELECT r FROM Review r JOIN r.user u " +
-           "WHERE LOWER(u.name) LIKE LOWER(CONCAT('%', :query, '%')) " +
-           "OR LOWER(r.placeName) LIKE LOWER(CONCAT('%', :query, '%')) " +
-           "OR LOWER(r.content) LIKE LOWER(CONCAT('%', :query, '%'))")
-    List<Review> searchReviews(@Param("query") String query, Pageable pageable);
+    // 리뷰 전문 검색 (id, 점수) - 점수 내림차순 키셋 페이지네이션
+    // search_vector/GIN, trigram 인덱스는 db/migration/V2__review_full_text_search.sql 참고
+    // 조건마다 인덱스를 타도록 후보 ID를 UNION으로 모은 뒤, 후보만 점수를 계산
+    // 'simple' 토큰은 공백 단위라 조사/복합어('보관이', '짐보관')를 놓치므로 제목/내용은 trigram 부분 일치로도 찾음
+    @Query(value = "WITH q AS (SELECT websearch_to_tsquery('simple', :query) AS tsq), " +
+                   "candidates AS (" +
+                   "  SELECT r.id FROM reviews r, q WHERE r.search_vector @@ q.tsq " +
+                   "  UNION " +
+                   "  SELECT r.id FROM reviews r WHERE r.place_name ILIKE CONCAT('%', :query, '%') " +
+                   "  UNION " +
+                   "  SELECT r.id FROM reviews r WHERE r.title ILIKE CONCAT('%', :query, '%') " +
+                   "  UNION " +
+                   "  SELECT r.id FROM reviews r WHERE r.content ILIKE CONCAT('%', :query, '%') " +
+                   "  UNION " +
+                   "  SELECT r.id FROM users u JOIN reviews r ON r.user_id = u.id " +
+                   "  WHERE u.name ILIKE CONCAT('%', :query, '%')" +
+                   ") " +
+                   "SELECT s.id, s.score FROM (" +
+                   "  SELECT r.id AS id, CAST(ts_rank(r.search_vector, q.tsq) " +
+                   "         + GREATEST(similarity(r.place_name, :query), similarity(r.title, :query), similarity(u.name, :query)) AS double precision) AS score " +
+                   "  FROM candidates c JOIN reviews r ON r.id = c.id JOIN users u ON u.id = r.user_id CROSS JOIN q " +
+                   "  WHERE CAST(:status AS varchar) IS NULL OR r.status = CAST(:status AS varchar)" +
+                   ") s " +
+                   "WHERE CAST(:cursorScore AS double precision) IS NULL " +
+                   "   OR s.score < CAST(:cursorScore AS double precision) " +
+                   "   OR (s.score = CAST(:cursorScore AS double precision) AND s.id < CAST(:cursorId AS bigint)) " +
+                   "ORDER BY s.score DESC, s.id DESC " +
+                   "LIMIT :limit",
+           nativeQuery = true)
+    List<Object[]> searchRankedIds(@Param("query") String query,
+                                   @Param("status") String status,
+                                   @Param("cursorScore") Double cursorScore,
+                                   @Param("cursorId") Long cursorId,
+                                   @Param("limit") int limit);
+    
+    // 검색 결과 리뷰 조회 (작성자/예약/관리자 함께 조회)
+    @Query("SELECT r FROM Review r JOIN FETCH r.user JOIN FETCH r.reservation LEFT JOIN FETCH r.adminUser " +
+           "WHERE r.id IN :reviewIds")
+    List<Review> findWithUserByIdIn(@Param("reviewIds") Collection<Long> reviewIds);
 }
@@ -12,6 +12,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 /**
  * 관리자 통합 검색 서비스
@@ -239,9 +242,18 @@ public class AdminSearchService {
      */
     private List<SearchResultDto> searchReviews(String query) {
         try {
-            Pageable pageable = PageRequest.of(0, 10);
-            List<Review> reviews = reviewRepository.searchReviews(query, pageable);
-            return reviews.stream()
+            // 전문 검색 (모든 상태, 관련도 상위 10건)
+            List<Long> ids = reviewRepository.searchRankedIds(query, null, null, null, 10).stream()
+                    .map(row -> ((Number) row[0]).longValue())
+                    .toList();
+            if (ids.isEmpty()) {
+                return new ArrayList<>();
+            }
+            Map<Long, Review> reviewsById = reviewRepository.findWithUserByIdIn(ids).stream()
+                    .collect(Collectors.toMap(Review::getId, r -> r));
+            return ids.stream()
+                    .map(reviewsById::get)
+                    .filter(Objects::nonNull)
                     .map(r -> SearchResultDto.builder()
                             .type(SearchType.REVIEW)
                             .id(r.getId())
@@ -0,0 +1,318 @@
+package org.example.travellight.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.travellight.dto.PartnershipCapacityDto;
+import org.example.travellight.repository.ReservationRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 매장별 사용 중인 보관량(소형/중형/대형)을 메모리에 유지하는 용량 장부
+ * 예약 생성/취소/완료/출고/만료 시점에 갱신되며, 예약 접수 시 매장 전체 예약을 다시 읽지 않고 바로 용량을 확인합니다.
+ * 용량 확인과 차감은 매장 키로 나눈 락 안에서 함께 수행되어 동시 예약으로 인한 초과 예약을 막습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CapacityLedgerService {
+
+    // 보관량을 차지하는 예약 상태 (입고된 짐은 출고 전까지 용량을 차지)
+    public static final List<String> ACTIVE_STATUSES = List.of("RESERVED", "IN_USE", "STORED");
+
+    // 매장 락 스트라이프 수 (2의 거듭제곱)
+    private static final int LOCK_STRIPES = 256;
+
+    private final ReservationRepository reservationRepository;
+
+    // 매장 키(매장명|주소)별 사용량
+    private final Map<String, StoreUsage> usages = new ConcurrentHashMap<>();
+
+    // 매장 키 해시로 나눈 락 (매장별 용량 확인과 차감을 원자적으로 수행)
+    private final Lock[] stripes = createStripes();
+
+    /**
+     * 애플리케이션 기동 시 집계 쿼리 한 번으로 전체 매장 사용량을 적재합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        try {
+            long startTime = System.currentTimeMillis();
+            Map<String, int[]> totals = loadAllTotals();
+            totals.forEach((key, bags) -> usages.putIfAbsent(key, new StoreUsage(bags[0], bags[1], bags[2])));
+            log.info("용량 장부 초기화 완료: 매장 {}개 ({}ms)", totals.size(), System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            // 초기화에 실패해도 매장별 최초 조회 시 개별 적재됨
+            log.error("용량 장부 초기화 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 현재 사용 중인 보관량 조회
+     */
+    public Map<String, Integer> getUsedCapacity(String placeName, String placeAddress) {
+        int[] bags = usageOf(placeName, placeAddress).snapshot();
+
+        Map<String, Integer> usedCapacity = new HashMap<>();
+        usedCapacity.put("smallBags", bags[0]);
+        usedCapacity.put("mediumBags", bags[1]);
+        usedCapacity.put("largeBags", bags[2]);
+        return usedCapacity;
+    }
+
+    /**
+     * 보관량 확인과 차감을 한 번에 수행 (예약 생성)
+     * 같은 매장에 대한 요청만 같은 락에서 직렬화되므로 다른 매장 예약은 서로 기다리지 않습니다.
+     * 차감은 즉시 반영하고, 트랜잭션이 롤백되면 되돌립니다.
+     *
+     * @return 용량이 부족하면 false
+     */
+    public boolean tryAllocate(PartnershipCapacityDto partnership, int smallBags, int mediumBags, int largeBags) {
+        String placeName = partnership.businessName();
+        String placeAddress = partnership.address();
+
+        Lock lock = stripeOf(keyOf(placeName, placeAddress));
+        lock.lock();
+        try {
+            StoreUsage usage = usageOf(placeName, placeAddress);
+            int[] bags = usage.snapshot();
+            if (bags[0] + smallBags > maxOf(partnership.smallBagsAvailable())
+                    || bags[1] + mediumBags > maxOf(partnership.mediumBagsAvailable())
+                    || bags[2] + largeBags > maxOf(partnership.largeBagsAvailable())) {
+                return false;
+            }
+            applyAllocation(usage, smallBags, mediumBags, largeBags);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 용량 확인 없이 보관량 차감 (제휴점 정보가 없는 매장의 예약 등)
+     */
+    public void allocate(String placeName, String placeAddress, int smallBags, int mediumBags, int largeBags) {
+        Lock lock = stripeOf(keyOf(placeName, placeAddress));
+        lock.lock();
+        try {
+            applyAllocation(usageOf(placeName, placeAddress), smallBags, mediumBags, largeBags);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void applyAllocation(StoreUsage usage, int smallBags, int mediumBags, int largeBags) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            usage.add(smallBags, mediumBags, largeBags);
+            return;
+        }
+
+        usage.beginPending();
+        usage.add(smallBags, mediumBags, largeBags);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    usage.add(-smallBags, -mediumBags, -largeBags);
+                }
+                usage.endPending();
+            }
+        });
+    }
+
+    /**
+     * 보관량 복원 (예약 취소/완료/출고/만료)
+     * 트랜잭션 커밋 이후에 반영합니다.
+     * 장부에 없는 매장은 다음 조회 시 커밋된 DB 값으로 적재되므로 복원하지 않습니다. (중복 차감 방지)
+     */
+    public void release(String placeName, String placeAddress, int smallBags, int mediumBags, int largeBags) {
+        String key = keyOf(placeName, placeAddress);
+        afterCommit(() -> usages.computeIfPresent(key, (k, usage) -> {
+            usage.add(-smallBags, -mediumBags, -largeBags);
+            return usage;
+        }));
+    }
+
+    /**
+     * 매장 사용량을 버리고 다음 조회 시 DB에서 다시 적재하도록 합니다.
+     * 진행 중인 예약이 있으면 대사 작업에 맡깁니다.
+     */
+    public void invalidate(String placeName, String placeAddress) {
+        String key = keyOf(placeName, placeAddress);
+        afterCommit(() -> usages.computeIfPresent(key, (k, usage) -> usage.hasPending() ? usage : null));
+    }
+
+    /**
+     * 장부와 DB 집계를 비교하여 어긋난 매장을 보정합니다.
+     *
+     * @return 보정된 매장 수
+     */
+    public int reconcile() {
+        // 집계 이후에 변경된 매장은 보정하지 않도록 집계 전 버전을 기록
+        Map<String, Long> versions = new HashMap<>();
+        usages.forEach((key, usage) -> versions.put(key, usage.version()));
+
+        Map<String, int[]> totals = loadAllTotals();
+
+        int corrected = 0;
+        for (Map.Entry<String, Long> entry : versions.entrySet()) {
+            String key = entry.getKey();
+            StoreUsage usage = usages.get(key);
+            if (usage == null) {
+                continue;
+            }
+            int[] actual = totals.getOrDefault(key, new int[3]);
+            int[] before = usage.snapshot();
+
+            // 보정값이 더 클 수 있으므로 예약 접수와 같은 락에서 교체
+            Lock lock = stripeOf(key);
+            lock.lock();
+            boolean reset;
+            try {
+                reset = usage.resetIfUnchanged(entry.getValue(), actual[0], actual[1], actual[2]);
+            } finally {
+                lock.unlock();
+            }
+
+            if (reset) {
+                corrected++;
+                log.warn("용량 장부 보정: store={}, 장부(소/중/대)={}/{}/{}, DB(소/중/대)={}/{}/{}",
+                        key, before[0], before[1], before[2], actual[0], actual[1], actual[2]);
+            }
+        }
+        return corrected;
+    }
+
+    private StoreUsage usageOf(String placeName, String placeAddress) {
+        String key = keyOf(placeName, placeAddress);
+        StoreUsage usage = usages.get(key);
+        if (usage != null) {
+            return usage;
+        }
+
+        // 장부에 없는 매장은 해당 매장만 집계하여 적재
+        List<Object[]> rows = reservationRepository.sumBagsByPlaceAndStatusIn(placeName, placeAddress, ACTIVE_STATUSES);
+        Object[] row = rows.isEmpty() ? new Object[3] : rows.get(0);
+        StoreUsage loaded = new StoreUsage(toInt(row[0]), toInt(row[1]), toInt(row[2]));
+
+        StoreUsage existing = usages.putIfAbsent(key, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private Map<String, int[]> loadAllTotals() {
+        Map<String, int[]> totals = new HashMap<>();
+        for (Object[] row : reservationRepository.sumBagsGroupByPlaceAndStatusIn(ACTIVE_STATUSES)) {
+            totals.put(keyOf((String) row[0], (String) row[1]),
+                    new int[]{toInt(row[2]), toInt(row[3]), toInt(row[4])});
+        }
+        return totals;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private Lock stripeOf(String key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (LOCK_STRIPES - 1)];
+    }
+
+    private static Lock[] createStripes() {
+        Lock[] locks = new Lock[LOCK_STRIPES];
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        return locks;
+    }
+
+    private static String keyOf(String placeName, String placeAddress) {
+        return placeName + "|" + placeAddress;
+    }
+
+    private static int maxOf(Integer available) {
+        return available != null ? available : 0;
+    }
+
+    private static int toInt(Object value) {
+        return value != null ? ((Number) value).intValue() : 0;
+    }
+
+    /**
+     * 매장 한 곳의 사용량
+     */
+    private static final class StoreUsage {
+        private int smallBags;
+        private int mediumBags;
+        private int largeBags;
+        // 커밋 전인 차감 건수
+        private int pending;
+        // 사용량이 바뀔 때마다 증가
+        private long version;
+
+        private StoreUsage(int smallBags, int mediumBags, int largeBags) {
+            this.smallBags = smallBags;
+            this.mediumBags = mediumBags;
+            this.largeBags = largeBags;
+        }
+
+        private synchronized int[] snapshot() {
+            return new int[]{smallBags, mediumBags, largeBags};
+        }
+
+        private synchronized void add(int small, int medium, int large) {
+            smallBags += small;
+            mediumBags += medium;
+            largeBags += large;
+            version++;
+        }
+
+        private synchronized void beginPending() {
+            pending++;
+        }
+
+        private synchronized void endPending() {
+            pending--;
+            // 집계 도중 커밋된 예약이 있으면 그 집계로 보정하지 않도록 버전 증가
+            version++;
+        }
+
+        private synchronized boolean hasPending() {
+            return pending > 0;
+        }
+
+        private synchronized long version() {
+            return version;
+        }
+
+        private synchronized boolean resetIfUnchanged(long expectedVersion, int small, int medium, int large) {
+            if (pending > 0 || version != expectedVersion
+                    || (smallBags == small && mediumBags == medium && largeBags == large)) {
+                return false;
+            }
+            smallBags = small;
+            mediumBags = medium;
+            largeBags = large;
+            version++;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package org.example.travellight.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.travellight.dto.ReservationDto;
+import org.example.travellight.entity.EmailOutbox;
+import org.example.travellight.entity.EmailOutboxStatus;
+import org.example.travellight.entity.EmailOutboxType;
+import org.example.travellight.repository.EmailOutboxRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이메일 아웃박스
+ * 메일은 업무 트랜잭션 안에서 email_outbox 테이블에 기록만 하고, 커밋 이후 별도 작업자가 전송합니다.
+ * 예약 요청은 SMTP 응답을 기다리지 않으며, 실패한 메일은 지수 백오프로 재시도됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmailOutboxService {
+
+    // 한 번에 꺼내 한 SMTP 연결로 보내는 최대 메일 수
+    private static final int BATCH_SIZE = 50;
+
+    // 첫 재시도 대기 시간 (이후 2배씩 증가)
+    private static final long BASE_BACKOFF_SECONDS = 30;
+
+    // 재시도 대기 시간 상한
+    private static final long MAX_BACKOFF_SECONDS = 3600;
+
+    // 이 시간 이상 전송 중인 메일은 작업자가 중단된 것으로 보고 다시 대기 상태로 변경
+    private static final long STUCK_SENDING_MINUTES = 10;
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EmailService emailService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${email.outbox.max-concurrency:4}")
+    private int maxConcurrency;
+
+    @Value("${email.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    // 메일 전송 작업자 (동시 SMTP 연결 수를 제한하는 가상 스레드 풀)
+    private ExecutorService workers;
+
+    // 비어 있는 작업자 자리 (자리가 있을 때만 메일을 전송 중으로 변경하여, 꺼낸 메일이 큐에서 기다리다
+    // 중단 판정 시간을 넘겨 다시 대기 상태로 돌아가 중복 전송되는 일을 막음)
+    private Semaphore slots;
+
+    @PostConstruct
+    public void init() {
+        workers = Executors.newFixedThreadPool(maxConcurrency, Thread.ofVirtual().name("email-outbox-", 0).factory());
+        slots = new Semaphore(maxConcurrency);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // 전송하지 못한 메일은 SENDING 상태로 남아 다음 기동 후 다시 처리됨
+        workers.shutdown();
+        if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * 예약 확인 메일을 아웃박스에 기록하고 커밋 이후 전송
+     * 호출한 트랜잭션이 롤백되면 메일도 함께 취소됩니다.
+     */
+    public void enqueueReservationConfirmation(ReservationDto reservationDto) {
+        EmailOutbox outbox = new EmailOutbox();
+        outbox.setType(EmailOutboxType.RESERVATION_CONFIRMATION);
+        outbox.setRecipient(reservationDto.getUserEmail());
+        outbox.setPayload(toJson(reservationDto));
+        outbox.setStatus(EmailOutboxStatus.PENDING);
+
+        Long outboxId = emailOutboxRepository.save(outbox).getId();
+        log.debug("예약 확인 메일 아웃박스 기록: id={}, 예약번호={}", outboxId, reservationDto.getReservationNumber());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(List.of(outboxId));
+                }
+            });
+        } else {
+            dispatch(List.of(outboxId));
+        }
+    }
+
+    /**
+     * 전송 시각이 된 대기 메일 전송 (커밋 직후 전송하지 못한 메일과 재시도 대상)
+     */
+    @Scheduled(fixedDelay = 10000, initialDelay = 10000) // 10초마다 실행 (10,000ms)
+    public void deliverDue() {
+        try {
+            Integer released = transactionTemplate.execute(status ->
+                    emailOutboxRepository.releaseStuckSending(LocalDateTime.now().minusMinutes(STUCK_SENDING_MINUTES)));
+            if (released != null && released > 0) {
+                log.warn("전송 중 중단된 메일 {}건을 다시 대기 상태로 변경", released);
+            }
+
+            // 작업자 자리가 빌 때만 꺼내고, 자리가 없으면 남은 메일은 다음 주기에 전송
+            while (slots.tryAcquire()) {
+                List<Object[]> claimed;
+                try {
+                    claimed = transactionTemplate.execute(status -> emailOutboxRepository.claimDueReturning(BATCH_SIZE));
+                } catch (RuntimeException e) {
+                    slots.release();
+                    throw e;
+                }
+                if (claimed == null || claimed.isEmpty()) {
+                    slots.release();
+                    return;
+                }
+                execute(() -> deliver(claimed));
+                if (claimed.size() < BATCH_SIZE) {
+                    return;
+                }
+            }
+        } catch (RejectedExecutionException e) {
+            log.warn("메일 작업자가 종료되어 대기 메일 전송을 중단합니다.");
+        } catch (Exception e) {
+            log.error("대기 메일 전송 중 오류 발생", e);
+        }
+    }
+
+    private void dispatch(List<Long> outboxIds) {
+        // 작업자가 모두 바쁘면 대기 상태로 두고 주기 작업에서 전송
+        if (!slots.tryAcquire()) {
+            log.debug("메일 작업자가 모두 사용 중이어서 주기 작업에서 전송합니다: ids={}", outboxIds);
+            return;
+        }
+        try {
+            execute(() -> {
+                try {
+                    List<Object[]> claimed = transactionTemplate.execute(status ->
+                            emailOutboxRepository.claimByIdsReturning(outboxIds));
+                    if (claimed != null && !claimed.isEmpty()) {
+                        deliver(claimed);
+                    }
+                } catch (Exception e) {
+                    // 대기 상태로 남은 메일은 주기 작업에서 다시 전송됨
+                    log.error("메일 전송 시작 중 오류 발생: ids={}", outboxIds, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("메일 작업자가 종료되어 주기 작업에서 전송합니다: ids={}", outboxIds);
+        }
+    }
+
+    /**
+     * 미리 확보한 작업자 자리에서 작업 실행 (작업이 끝나거나 실행이 거부되면 자리 반환)
+     */
+    private void execute(Runnable task) {
+        try {
+            workers.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    slots.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            slots.release();
+            throw e;
+        }
+    }
+
+    /**
+     * 전송 중으로 변경된 메일(id, 유형, 내용, 시도 횟수)을 한 번에 전송하고 결과 반영
+     */
+    private void deliver(List<Object[]> claimedRows) {
+        List<Long> ids = new ArrayList<>();
+        List<Integer> attempts = new ArrayList<>();
+        List<ReservationDto> reservations = new ArrayList<>();
+        List<Long> invalidIds = new ArrayList<>();
+
+        for (Object[] row : claimedRows) {
+            Long id = ((Number) row[0]).longValue();
+            try {
+                if (!EmailOutboxType.RESERVATION_CONFIRMATION.name().equals(row[1])) {
+                    throw new IllegalArgumentException("지원하지 않는 메일 유형: " + row[1]);
+                }
+                reservations.add(objectMapper.readValue((String) row[2], ReservationDto.class));
+                ids.add(id);
+                attempts.add(((Number) row[3]).intValue());
+            } catch (Exception e) {
+                log.error("메일 내용 해석 실패: id={}", id, e);
+                invalidIds.add(id);
+            }
+        }
+
+        List<Boolean> results = reservations.isEmpty()
+                ? List.of()
+                : emailService.sendReservationConfirmationEmails(reservations);
+
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Long> sentIds = new ArrayList<>();
+            for (int i = 0; i < ids.size(); i++) {
+                Long id = ids.get(i);
+                if (results.get(i)) {
+                    sentIds.add(id);
+                } else if (attempts.get(i) >= maxAttempts) {
+                    emailOutboxRepository.markFailed(id, "최대 재시도 횟수 초과");
+                    log.error("메일 전송 최종 실패: id={}, 시도={}회", id, attempts.get(i));
+                } else {
+                    emailOutboxRepository.scheduleRetry(id, now.plusSeconds(backoffSeconds(attempts.get(i))), "SMTP 전송 실패");
+                }
+            }
+            if (!sentIds.isEmpty()) {
+                emailOutboxRepository.markSent(sentIds, now);
+            }
+            invalidIds.forEach(id -> emailOutboxRepository.markFailed(id, "메일 내용을 해석할 수 없음"));
+        });
+    }
+
+    private static long backoffSeconds(int attempts) {
+        return Math.min(BASE_BACKOFF_SECONDS << Math.min(attempts - 1, 20), MAX_BACKOFF_SECONDS);
+    }
+
+    private String toJson(ReservationDto reservationDto) {
+        try {
+            return objectMapper.writeValueAsString(reservationDto);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("메일 내용 직렬화 실패", e);
+        }
+    }
+}
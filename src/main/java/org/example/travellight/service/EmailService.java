@@ -2,6 +2,8 @@ package org.example.travellight.service;
 
 import org.example.travellight.dto.ReservationDto;
 
+import java.util.List;
+
 public interface EmailService {
     
     /**
@@ -12,6 +14,14 @@ public interface EmailService {
      */
     boolean sendReservationConfirmationEmail(ReservationDto reservationDto);
     
+    /**
+     * 예약 확인 이메일 여러 건을 한 번의 SMTP 연결로 보냅니다.
+     * 
+     * @param reservationDtos 예약 정보가 담긴 DTO 목록
+     * @return 예약별 이메일 전송 성공 여부 (입력 순서와 동일)
+     */
+    List<Boolean> sendReservationConfirmationEmails(List<ReservationDto> reservationDtos);
+    
     /**
      * 비밀번호 재설정 인증 코드 이메일을 보냅니다.
      * 
@@ -7,11 +7,17 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 
 @Service
 @ConditionalOnProperty(name = "spring.mail.enabled", havingValue = "true", matchIfMissing = true)
@@ -55,6 +61,48 @@ public class EmailServiceImpl implements EmailService {
         }
     }
 
+    @Override
+    public List<Boolean> sendReservationConfirmationEmails(List<ReservationDto> reservationDtos) {
+        List<Boolean> results = new ArrayList<>(Collections.nCopies(reservationDtos.size(), false));
+        List<MimeMessage> messages = new ArrayList<>();
+        Map<MimeMessage, Integer> indexes = new IdentityHashMap<>();
+        
+        for (int i = 0; i < reservationDtos.size(); i++) {
+            ReservationDto reservationDto = reservationDtos.get(i);
+            try {
+                MimeMessage message = mailSender.createMimeMessage();
+                MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+                helper.setTo(reservationDto.getUserEmail());
+                helper.setSubject("[TravelLight] 예약이 확인되었습니다");
+                helper.setText(createReservationEmailContent(reservationDto), true);
+                messages.add(message);
+                indexes.put(message, i);
+            } catch (Exception e) {
+                logger.error("예약 확인 이메일 생성 중 오류 발생: {} - {}", reservationDto.getUserEmail(), e.getMessage(), e);
+            }
+        }
+        if (messages.isEmpty()) {
+            return results;
+        }
+        
+        try {
+            // 한 번의 연결로 모든 메일 전송
+            mailSender.send(messages.toArray(new MimeMessage[0]));
+            indexes.values().forEach(index -> results.set(index, true));
+        } catch (MailSendException e) {
+            // 일부 메일만 실패한 경우 실패한 메일을 제외하고 성공 처리
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+            indexes.forEach((message, index) -> results.set(index, !failedMessages.containsKey(message)));
+            logger.error("예약 확인 이메일 일괄 전송 중 {}건 실패: {}", failedMessages.size(), e.getMessage());
+        } catch (Exception e) {
+            logger.error("예약 확인 이메일 일괄 전송 중 오류 발생: {}", e.getMessage(), e);
+        }
+        
+        logger.info("예약 확인 이메일 일괄 전송 완료: 성공={}건, 전체={}건",
+                results.stream().filter(Boolean::booleanValue).count(), results.size());
+        return results;
+    }
+
     @Override
     public boolean sendPasswordResetVerificationEmail(String email, String verificationCode) {
         logger.info("비밀번호 재설정 인증 코드 이메일 전송 요청: {}", email);
@@ -7,6 +7,9 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Service;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * 이메일을 실제로 전송하지 않는 EmailService 구현체입니다.
  * spring.mail.enabled=false일 때 사용됩니다.
@@ -29,6 +32,12 @@ public class NoOpEmailServiceImpl implements EmailService {
         return true;
     }
 
+    @Override
+    public List<Boolean> sendReservationConfirmationEmails(List<ReservationDto> reservationDtos) {
+        logger.info("이메일 전송이 비활성화되어 있습니다. 예약 확인 이메일 {}건을 전송하지 않습니다.", reservationDtos.size());
+        return Collections.nCopies(reservationDtos.size(), true);
+    }
+
     @Override
     public boolean sendPasswordResetVerificationEmail(String email, String verificationCode) {
         logger.info("이메일 전송이 비활성화되어 있습니다. 비밀번호 재설정 인증 코드 이메일을 전송하지 않습니다. (사용자: {}, 인증코드: {})",
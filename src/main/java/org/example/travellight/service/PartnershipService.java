@@ -1,13 +1,16 @@
 package org.example.travellight.service;
 
+import org.example.travellight.dto.PartnershipCapacityDto;
 import org.example.travellight.dto.PartnershipDto;
 import org.example.travellight.entity.Partnership;
-import org.example.travellight.entity.Reservation;
 import org.example.travellight.repository.PartnershipRepository;
 import org.example.travellight.repository.ReservationRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,7 +24,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Service
 public class PartnershipService {
@@ -42,6 +46,23 @@ public class PartnershipService {
     
     @Autowired
     private EmailService emailService;
+    
+    @Autowired
+    private CapacityLedgerService capacityLedgerService;
+    
+    // 승인된 제휴점 보관 용량 캐시 (매장명|주소 → 용량), 제휴점 변경 시 무효화
+    // 엔티티 대신 변경 불가 레코드를 보관하여 여러 요청이 같은 객체를 수정하거나 지연 로딩하지 않도록 함
+    private final Map<String, PartnershipCapacityDto> approvedPartnershipCache = new ConcurrentHashMap<>();
+    
+    // 캐시 무효화 세대 (조회 중 무효화된 결과가 캐시에 다시 들어가지 않도록 함)
+    private final AtomicLong approvedPartnershipCacheGeneration = new AtomicLong();
+    
+    // 보관함 현황 캐시 유지 시간 (0이면 캐시 사용 안 함)
+    @Value("${partnership.storage-status.cache-ttl-ms:5000}")
+    private long storageStatusCacheTtlMillis;
+    
+    // 직전 보관함 현황 조회 결과
+    private volatile StorageStatusSnapshot storageStatusSnapshot;
 
     public PartnershipService(PartnershipRepository partnershipRepository, AddressTsService addressTsService) {
         this.addressTsService = addressTsService;
@@ -244,6 +265,7 @@ public class PartnershipService {
             }
         }
         
+        evictApprovedPartnership(partnership.getId());
         return partnershipRepository.save(partnership);
     }
 
@@ -358,6 +380,7 @@ public class PartnershipService {
             partnership.setBusinessHours(businessHoursMap);
         }
         
+        evictApprovedPartnership(partnership.getId());
         return partnershipRepository.save(partnership);
     }
 
@@ -367,88 +390,118 @@ public class PartnershipService {
     }
 
     public Partnership save(Partnership partnership) {
-        return partnershipRepository.save(partnership);
+        Partnership saved = partnershipRepository.save(partnership);
+        evictApprovedPartnership(saved.getId());
+        return saved;
     }
 
     // 매장명과 주소로 Partnership 찾기
     public Partnership findByBusinessNameAndAddress(String businessName, String address) {
-        List<Partnership> partnerships = partnershipRepository.findAll();
-        return partnerships.stream()
-                .filter(p -> p.getBusinessName().equals(businessName) && p.getAddress().equals(address))
-                .findFirst()
+        return partnershipRepository.findFirstByBusinessNameAndAddressOrderByIdAsc(businessName, address)
                 .orElse(null);
     }
     
-    // 현재 사용 중인 보관량 계산
-    public Map<String, Integer> getCurrentUsedCapacity(String businessName, String address) {
-        List<Reservation> activeReservations = reservationRepository.findByPlaceNameAndPlaceAddress(businessName, address)
-                .stream()
-                .filter(r -> "RESERVED".equals(r.getStatus()) || "IN_USE".equals(r.getStatus()))
-                .collect(Collectors.toList());
-        
-        int usedSmallBags = activeReservations.stream()
-                .mapToInt(r -> r.getSmallBags() != null ? r.getSmallBags() : 0)
-                .sum();
-        
-        int usedMediumBags = activeReservations.stream()
-                .mapToInt(r -> r.getMediumBags() != null ? r.getMediumBags() : 0)
-                .sum();
+    // 매장명과 주소로 보관 용량 찾기 (승인된 제휴점은 캐시에서 반환)
+    public PartnershipCapacityDto findCapacityByBusinessNameAndAddress(String businessName, String address) {
+        String cacheKey = businessName + "|" + address;
+        PartnershipCapacityDto cached = approvedPartnershipCache.get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
         
-        int usedLargeBags = activeReservations.stream()
-                .mapToInt(r -> r.getLargeBags() != null ? r.getLargeBags() : 0)
-                .sum();
+        long generation = approvedPartnershipCacheGeneration.get();
+        Partnership partnership = findByBusinessNameAndAddress(businessName, address);
+        if (partnership == null) {
+            return null;
+        }
         
-        Map<String, Integer> usedCapacity = new HashMap<>();
-        usedCapacity.put("smallBags", usedSmallBags);
-        usedCapacity.put("mediumBags", usedMediumBags);
-        usedCapacity.put("largeBags", usedLargeBags);
+        PartnershipCapacityDto capacity = PartnershipCapacityDto.from(partnership);
+        if ("APPROVED".equals(capacity.status())) {
+            approvedPartnershipCache.put(cacheKey, capacity);
+            // 조회 도중 무효화가 일어났다면 방금 넣은 값은 버림
+            if (approvedPartnershipCacheGeneration.get() != generation) {
+                approvedPartnershipCache.remove(cacheKey, capacity);
+            }
+        }
+        return capacity;
+    }
+    
+    // 제휴점 캐시 무효화 (트랜잭션 커밋 이후 반영)
+    private void evictApprovedPartnership(Long id) {
+        Runnable evict = () -> {
+            approvedPartnershipCacheGeneration.incrementAndGet();
+            approvedPartnershipCache.values().removeIf(capacity -> capacity.id().equals(id));
+        };
         
-        return usedCapacity;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict.run();
+                }
+            });
+        } else {
+            evict.run();
+        }
+    }
+    
+    // 현재 사용 중인 보관량 조회 (용량 장부 기준)
+    public Map<String, Integer> getCurrentUsedCapacity(String businessName, String address) {
+        return capacityLedgerService.getUsedCapacity(businessName, address);
     }
     
     // 모든 승인된 파트너십의 보관함 현황 조회 (관리자 대시보드용)
+    // 집계 쿼리 한 번으로 조회하며, 짧은 시간 동안은 직전 결과를 재사용합니다.
     public List<Map<String, Object>> getAllStorageStatus() {
-        List<Partnership> approvedPartnerships = partnershipRepository.findAll()
+        StorageStatusSnapshot snapshot = storageStatusSnapshot;
+        long now = System.currentTimeMillis();
+        if (snapshot != null && now - snapshot.loadedAt() < storageStatusCacheTtlMillis) {
+            return snapshot.statuses();
+        }
+        
+        List<Map<String, Object>> statuses = partnershipRepository.findApprovedStorageUsage(CapacityLedgerService.ACTIVE_STATUSES)
                 .stream()
-                .filter(p -> "APPROVED".equals(p.getStatus()))
-                .collect(Collectors.toList());
+                .map(this::toStorageStatus)
+                .toList();
         
-        return approvedPartnerships.stream()
-                .map(partnership -> {
-                    Map<String, Integer> currentUsage = getCurrentUsedCapacity(
-                        partnership.getBusinessName(), 
-                        partnership.getAddress()
-                    );
-                    
-                    int maxSmallBags = partnership.getSmallBagsAvailable() != null ? partnership.getSmallBagsAvailable() : 0;
-                    int maxMediumBags = partnership.getMediumBagsAvailable() != null ? partnership.getMediumBagsAvailable() : 0;
-                    int maxLargeBags = partnership.getLargeBagsAvailable() != null ? partnership.getLargeBagsAvailable() : 0;
-                    
-                    int usedSmallBags = currentUsage.get("smallBags");
-                    int usedMediumBags = currentUsage.get("mediumBags");
-                    int usedLargeBags = currentUsage.get("largeBags");
-                    
-                    int totalCapacity = maxSmallBags + maxMediumBags + maxLargeBags;
-                    int totalUsed = usedSmallBags + usedMediumBags + usedLargeBags;
-                    
-                    double usagePercentage = totalCapacity > 0 ? (double) totalUsed / totalCapacity * 100 : 0;
-                    
-                    Map<String, Object> storageStatus = new HashMap<>();
-                    storageStatus.put("name", partnership.getBusinessName());
-                    storageStatus.put("address", partnership.getAddress());
-                    storageStatus.put("usage", Math.round(usagePercentage));
-                    storageStatus.put("total", totalCapacity);
-                    storageStatus.put("used", totalUsed);
-                    storageStatus.put("소형", usedSmallBags);
-                    storageStatus.put("중형", usedMediumBags);
-                    storageStatus.put("대형", usedLargeBags);
-                    storageStatus.put("maxSmall", maxSmallBags);
-                    storageStatus.put("maxMedium", maxMediumBags);
-                    storageStatus.put("maxLarge", maxLargeBags);
-                    
-                    return storageStatus;
-                })
-                .collect(Collectors.toList());
+        if (storageStatusCacheTtlMillis > 0) {
+            storageStatusSnapshot = new StorageStatusSnapshot(statuses, now);
+        }
+        return statuses;
+    }
+    
+    private Map<String, Object> toStorageStatus(Object[] row) {
+        int maxSmallBags = row[2] != null ? ((Number) row[2]).intValue() : 0;
+        int maxMediumBags = row[3] != null ? ((Number) row[3]).intValue() : 0;
+        int maxLargeBags = row[4] != null ? ((Number) row[4]).intValue() : 0;
+        
+        int usedSmallBags = ((Number) row[5]).intValue();
+        int usedMediumBags = ((Number) row[6]).intValue();
+        int usedLargeBags = ((Number) row[7]).intValue();
+        
+        int totalCapacity = maxSmallBags + maxMediumBags + maxLargeBags;
+        int totalUsed = usedSmallBags + usedMediumBags + usedLargeBags;
+        
+        double usagePercentage = totalCapacity > 0 ? (double) totalUsed / totalCapacity * 100 : 0;
+        
+        Map<String, Object> storageStatus = new HashMap<>();
+        storageStatus.put("name", row[0]);
+        storageStatus.put("address", row[1]);
+        storageStatus.put("usage", Math.round(usagePercentage));
+        storageStatus.put("total", totalCapacity);
+        storageStatus.put("used", totalUsed);
+        storageStatus.put("소형", usedSmallBags);
+        storageStatus.put("중형", usedMediumBags);
+        storageStatus.put("대형", usedLargeBags);
+        storageStatus.put("maxSmall", maxSmallBags);
+        storageStatus.put("maxMedium", maxMediumBags);
+        storageStatus.put("maxLarge", maxLargeBags);
+        
+        return storageStatus;
+    }
+    
+    // 보관함 현황 캐시 항목
+    private record StorageStatusSnapshot(List<Map<String, Object>> statuses, long loadedAt) {
     }
 
     /**
@@ -474,6 +527,7 @@ public class PartnershipService {
             // 역할 업데이트 실패해도 파트너십 상태는 변경
         }
         
+        evictApprovedPartnership(partnership.getId());
         return partnershipRepository.save(partnership);
     }
 
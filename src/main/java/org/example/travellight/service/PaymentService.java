@@ -1,350 +1,287 @@
 package org.example.travellight.service;
 
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.travellight.dto.PaymentHistoryDto;
+import org.example.travellight.dto.PaymentHistoryPageDto;
+import org.example.travellight.dto.PortOnePaymentDto;
 import org.example.travellight.entity.Payment;
 import org.example.travellight.entity.Reservation;
 import org.example.travellight.repository.PaymentRepository;
 import org.example.travellight.repository.ReservationRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class PaymentService {
 
+    // 사용자 결제 내역 한 페이지 최대 건수
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+
     private final PaymentRepository paymentRepository;
     private final ReservationRepository reservationRepository;
     private final ObjectMapper objectMapper;
 
     /**
-     * PortOne API 응답을 파싱하여 Payment 엔티티 생성 및 저장
+     * 포트원 결제 조회 결과로 Payment 엔티티 생성 및 저장
      */
     @Transactional
-    public Payment createPaymentFromPortOne(Map<String, Object> paymentInfo, String reservationNumber) {
-        log.info("결제 정보 저장 시작 - reservationNumber: {}", reservationNumber);
-        log.info("PaymentInfo 전체: {}", paymentInfo);
-        log.info("amount 필드: {}", paymentInfo.get("amount"));
-        log.info("amount 타입: {}", paymentInfo.get("amount") != null ? paymentInfo.get("amount").getClass().getName() : "null");
+    public Payment createPaymentFromPortOne(PortOnePaymentDto.Payment paymentInfo, String reservationNumber) {
+        log.info("결제 정보 저장 시작 - paymentId: {}, reservationNumber: {}", paymentInfo.id(), reservationNumber);
 
         // 예약 조회
         Reservation reservation = reservationRepository.findByReservationNumber(reservationNumber)
                 .orElseThrow(() -> new RuntimeException("예약을 찾을 수 없습니다: " + reservationNumber));
 
-        // Payment 엔티티 생성
+        return createPaymentFromPortOne(paymentInfo, reservation);
+    }
+
+    /**
+     * 이미 조회한 예약으로 Payment 엔티티 생성 및 저장
+     */
+    private Payment createPaymentFromPortOne(PortOnePaymentDto.Payment paymentInfo, Reservation reservation) {
+        Payment savedPayment = paymentRepository.save(toPayment(paymentInfo, parseCustomData(paymentInfo), reservation));
+
+        log.info("결제 정보 저장 완료 - paymentId: {}, reservationNumber: {}, method: {}, amount: {}",
+                savedPayment.getPaymentId(), reservation.getReservationNumber(),
+                savedPayment.getPaymentMethod(), savedPayment.getPaymentAmount());
+
+        return savedPayment;
+    }
+
+    /**
+     * 포트원 결제 DTO를 Payment 엔티티로 변환
+     */
+    private static Payment toPayment(PortOnePaymentDto.Payment paymentInfo, PortOnePaymentDto.CustomData customData,
+                                     Reservation reservation) {
         Payment.PaymentBuilder builder = Payment.builder()
                 .reservation(reservation)
-                .paymentId((String) paymentInfo.get("id"))
-                .transactionId((String) paymentInfo.get("transactionId"))
-                .merchantId((String) paymentInfo.get("merchantId"))
-                .storeId((String) paymentInfo.get("storeId"))
-                .paymentStatus((String) paymentInfo.get("status"))
-                .paymentTime(LocalDateTime.now());
-
-        // channel 정보를 먼저 확인 (PayPal 등 일부 결제는 method가 없을 수 있음)
-        String paymentProvider = null;
-        if (paymentInfo.get("channel") != null) {
-            Map<String, Object> channel = (Map<String, Object>) paymentInfo.get("channel");
-            if (channel.get("pgProvider") != null) {
-                paymentProvider = (String) channel.get("pgProvider");
-                log.info("PG Provider 확인: {}", paymentProvider);
-            }
+                .paymentId(paymentInfo.id())
+                .transactionId(paymentInfo.transactionId())
+                .merchantId(paymentInfo.merchantId())
+                .storeId(paymentInfo.storeId())
+                .paymentStatus(paymentInfo.status())
+                .paymentTime(LocalDateTime.now())
+                .currency(paymentInfo.currency() != null ? paymentInfo.currency() : "KRW");
+
+        // channel 정보 (PG사)
+        PortOnePaymentDto.Channel channel = paymentInfo.channel();
+        String paymentProvider = channel != null ? channel.pgProvider() : null;
+        if (channel != null) {
+            builder.channelType(channel.type())
+                    .channelId(channel.id())
+                    .channelKey(channel.key())
+                    .channelName(channel.name())
+                    .paymentProvider(channel.pgProvider())
+                    .pgMerchantId(channel.pgMerchantId());
         }
 
-        // method 정보 추출
-        if (paymentInfo.get("method") != null) {
-            Map<String, Object> method = (Map<String, Object>) paymentInfo.get("method");
-            String methodType = (String) method.get("type");
-
-            // 결제 수단 타입 설정
-            if ("PaymentMethodEasyPay".equals(methodType)) {
-                builder.paymentMethod("easypay");
-                builder.easyPayProvider((String) method.get("provider"));
-
-                // 간편결제 내 카드 정보
-                if (method.get("easyPayMethod") != null) {
-                    Map<String, Object> easyPayMethod = (Map<String, Object>) method.get("easyPayMethod");
-
-                    if (easyPayMethod.get("card") != null) {
-                        Map<String, Object> card = (Map<String, Object>) easyPayMethod.get("card");
-                        extractCardInfo(builder, card);
-                    }
-
-                    // 승인번호
-                    if (easyPayMethod.get("approvalNumber") != null) {
-                        builder.approvalNumber((String) easyPayMethod.get("approvalNumber"));
-                    }
-
-                    // 할부 정보
-                    if (easyPayMethod.get("installment") != null) {
-                        Map<String, Object> installment = (Map<String, Object>) easyPayMethod.get("installment");
-                        builder.installmentMonth((Integer) installment.get("month"));
-                        builder.isInterestFree((Boolean) installment.get("isInterestFree"));
-                    }
+        // 결제 수단 (PayPal 등 일부 결제는 method가 없으므로 pgProvider 기준으로 설정)
+        PortOnePaymentDto.Method method = paymentInfo.method();
+        if (method == null) {
+            builder.paymentMethod(paymentProvider != null && paymentProvider.contains("PAYPAL") ? "paypal" : "other");
+        } else if ("PaymentMethodEasyPay".equals(method.type())) {
+            builder.paymentMethod("easypay")
+                    .easyPayProvider(method.provider());
+
+            // 간편결제 내 카드 정보, 승인번호, 할부 정보
+            PortOnePaymentDto.EasyPayMethod easyPayMethod = method.easyPayMethod();
+            if (easyPayMethod != null) {
+                applyCard(builder, easyPayMethod.card());
+                builder.approvalNumber(easyPayMethod.approvalNumber());
+                if (easyPayMethod.installment() != null) {
+                    builder.installmentMonth(easyPayMethod.installment().month())
+                            .isInterestFree(easyPayMethod.installment().isInterestFree());
                 }
-            } else if ("PaymentMethodCard".equals(methodType)) {
-                builder.paymentMethod("card");
-
-                if (method.get("card") != null) {
-                    Map<String, Object> card = (Map<String, Object>) method.get("card");
-                    extractCardInfo(builder, card);
-                }
-            } else if (methodType != null) {
-                builder.paymentMethod(methodType.toLowerCase());
             }
+        } else if ("PaymentMethodCard".equals(method.type())) {
+            builder.paymentMethod("card");
+            applyCard(builder, method.card());
         } else {
-            // method가 없는 경우 (PayPal 등)
-            log.warn("method 정보가 없습니다. pgProvider 기반으로 결제 수단 설정: {}", paymentProvider);
-
-            // pgProvider 기반으로 결제 수단 설정
-            if (paymentProvider != null && paymentProvider.contains("PAYPAL")) {
-                builder.paymentMethod("paypal");
-                log.info("PayPal 결제로 설정");
-            } else {
-                // 기본값 설정
-                builder.paymentMethod("other");
-                log.warn("결제 수단을 'other'로 설정");
+            builder.paymentMethod(method.type() != null ? method.type().toLowerCase() : "other");
+        }
+
+        // 결제 금액 및 할인 금액
+        PortOnePaymentDto.Amount amount = paymentInfo.amount();
+        builder.paymentAmount(amount != null && amount.total() != null ? amount.total().intValue() : 0);
+        if (amount != null && amount.discount() != null && amount.discount() > 0) {
+            builder.couponDiscount(amount.discount().intValue());
+        }
+
+        // 쿠폰 정보 (customData.reservationData, 최상위 필드 순으로 적용)
+        PortOnePaymentDto.ReservationData reservationData = customData.reservationData();
+        if (reservationData != null) {
+            if (reservationData.couponCode() != null) {
+                builder.couponCode(reservationData.couponCode());
+            }
+            if (reservationData.couponName() != null) {
+                builder.couponName(reservationData.couponName());
+            }
+            if (reservationData.couponDiscount() != null && reservationData.couponDiscount() > 0) {
+                builder.couponDiscount(reservationData.couponDiscount());
             }
         }
+        if (paymentInfo.promotionId() != null) {
+            builder.couponCode(paymentInfo.promotionId());
+        }
+        if (paymentInfo.couponCode() != null) {
+            builder.couponCode(paymentInfo.couponCode());
+        }
+        if (paymentInfo.couponName() != null) {
+            builder.couponName(paymentInfo.couponName());
+        }
+
+        return builder.build();
+    }
 
-        // channel 정보 추출
-        if (paymentInfo.get("channel") != null) {
-            Map<String, Object> channel = (Map<String, Object>) paymentInfo.get("channel");
-            builder.channelType((String) channel.get("type"));
-            builder.channelId((String) channel.get("id"));
-            builder.channelKey((String) channel.get("key"));
-            builder.channelName((String) channel.get("name"));
-            builder.paymentProvider((String) channel.get("pgProvider"));
-            builder.pgMerchantId((String) channel.get("pgMerchantId"));
+    /**
+     * 카드 정보 반영
+     */
+    private static void applyCard(Payment.PaymentBuilder builder, PortOnePaymentDto.Card card) {
+        if (card == null) {
+            return;
         }
+        builder.cardCompany(card.issuer())
+                .cardType(card.type())
+                .cardNumber(card.number())
+                .cardName(card.name());
+    }
 
-        // 통화 정보 추출
-        if (paymentInfo.get("currency") != null) {
-            builder.currency((String) paymentInfo.get("currency"));
-            log.info("통화 단위: {}", paymentInfo.get("currency"));
-        } else {
-            // 기본값은 KRW
-            builder.currency("KRW");
-            log.info("통화 정보가 없어 기본값 KRW로 설정");
+    /**
+     * 웹훅으로 재검증한 포트원 결제 정보를 결제/예약에 일괄 반영
+     * 기존 결제는 상태만 갱신하고, 아직 저장되지 않은 결제 완료 건은 customData의 예약번호로 결제를 생성합니다.
+     * 결제와 예약은 각각 한 번의 쿼리로 조회하며, 변경 내용은 커밋 시 배치 UPDATE로 반영됩니다.
+     * @param paymentInfos 포트원 결제 조회 응답 목록
+     * @return 예약이 아직 생성되지 않아 반영하지 못한 결제 ID (재시도 대상)
+     */
+    @Transactional
+    public Set<String> applyVerifiedPayments(Collection<PortOnePaymentDto.Payment> paymentInfos) {
+        Map<String, PortOnePaymentDto.Payment> infoByPaymentId = new HashMap<>();
+        for (PortOnePaymentDto.Payment paymentInfo : paymentInfos) {
+            infoByPaymentId.put(paymentInfo.id(), paymentInfo);
         }
 
-        // 결제 금액 및 할인 정보 (쿠폰 포함)
-        if (paymentInfo.get("amount") != null) {
-            Object amountObj = paymentInfo.get("amount");
-            log.info("amount 객체: {}", amountObj);
-
-            // amount가 Map인 경우 (V2 API의 경우)
-            if (amountObj instanceof Map) {
-                Map<String, Object> amount = (Map<String, Object>) amountObj;
-                log.info("amount Map: {}", amount);
-                Object totalObj = amount.get("total");
-                log.info("total 객체: {}, 타입: {}", totalObj, totalObj != null ? totalObj.getClass().getName() : "null");
-
-                if (totalObj != null) {
-                    if (totalObj instanceof Integer) {
-                        builder.paymentAmount((Integer) totalObj);
-                        log.info("Integer로 설정: {}", totalObj);
-                    } else if (totalObj instanceof Long) {
-                        builder.paymentAmount(((Long) totalObj).intValue());
-                        log.info("Long에서 변환: {}", totalObj);
-                    } else if (totalObj instanceof Double) {
-                        builder.paymentAmount(((Double) totalObj).intValue());
-                        log.info("Double에서 변환: {}", totalObj);
-                    } else {
-                        int parsed = Integer.parseInt(totalObj.toString());
-                        builder.paymentAmount(parsed);
-                        log.info("String 파싱: {}", parsed);
-                    }
-                } else {
-                    log.error("total 필드가 null입니다!");
-                    builder.paymentAmount(0);
-                }
+        Map<String, Payment> existing = new HashMap<>();
+        for (Payment payment : paymentRepository.findWithReservationByPaymentIdIn(infoByPaymentId.keySet())) {
+            existing.put(payment.getPaymentId(), payment);
+        }
 
-                // 할인 정보 추출 (쿠폰)
-                if (amount.get("discount") != null) {
-                    Object discountObj = amount.get("discount");
-                    Integer discountAmount = null;
-
-                    if (discountObj instanceof Integer) {
-                        discountAmount = (Integer) discountObj;
-                    } else if (discountObj instanceof Long) {
-                        discountAmount = ((Long) discountObj).intValue();
-                    } else if (discountObj instanceof Double) {
-                        discountAmount = ((Double) discountObj).intValue();
-                    } else if (discountObj != null) {
-                        discountAmount = Integer.parseInt(discountObj.toString());
-                    }
-
-                    if (discountAmount != null && discountAmount > 0) {
-                        builder.couponDiscount(discountAmount);
-                        log.info("쿠폰 할인 금액: {}", discountAmount);
-                    }
+        // 저장되지 않은 결제 완료 건의 예약 일괄 조회
+        Map<String, PortOnePaymentDto.CustomData> customDataByPaymentId = new HashMap<>();
+        infoByPaymentId.forEach((paymentId, paymentInfo) -> {
+            if (!existing.containsKey(paymentId) && "PAID".equals(paymentInfo.status())) {
+                PortOnePaymentDto.CustomData customData = parseCustomData(paymentInfo);
+                if (customData.reservationNumber() != null) {
+                    customDataByPaymentId.put(paymentId, customData);
+                } else {
+                    log.warn("웹훅 결제에 예약번호가 없어 반영하지 않습니다: paymentId={}", paymentId);
                 }
             }
-            // amount가 직접 숫자인 경우
-            else if (amountObj instanceof Integer) {
-                builder.paymentAmount((Integer) amountObj);
-            } else if (amountObj instanceof Long) {
-                builder.paymentAmount(((Long) amountObj).intValue());
-            } else if (amountObj instanceof Double) {
-                builder.paymentAmount(((Double) amountObj).intValue());
-            } else {
-                builder.paymentAmount(Integer.parseInt(amountObj.toString()));
+        });
+        Map<String, Reservation> reservations = new HashMap<>();
+        if (!customDataByPaymentId.isEmpty()) {
+            List<String> reservationNumbers = customDataByPaymentId.values().stream()
+                    .map(PortOnePaymentDto.CustomData::reservationNumber)
+                    .toList();
+            for (Reservation reservation : reservationRepository.findByReservationNumberIn(reservationNumbers)) {
+                reservations.put(reservation.getReservationNumber(), reservation);
             }
-        } else {
-            // amount 필드가 없으면 로그 남기고 0으로 설정
-            log.warn("결제 금액 정보가 없습니다. paymentId: {}", paymentInfo.get("id"));
-            builder.paymentAmount(0);
         }
 
-        // customData에서 쿠폰 정보 추출
-        if (paymentInfo.get("customData") != null) {
-            try {
-                Object customDataObj = paymentInfo.get("customData");
-                Map<String, Object> customData = null;
-
-                // customData가 String인 경우 JSON 파싱
-                if (customDataObj instanceof String) {
-                    String customDataStr = (String) customDataObj;
-                    log.info("customData를 String에서 파싱: {}", customDataStr);
-                    customData = objectMapper.readValue(customDataStr, new TypeReference<Map<String, Object>>() {});
-                } else if (customDataObj instanceof Map) {
-                    // 이미 Map인 경우
-                    customData = (Map<String, Object>) customDataObj;
-                }
+        Set<String> deferred = new HashSet<>();
+        LocalDateTime now = LocalDateTime.now();
+        infoByPaymentId.forEach((paymentId, paymentInfo) -> {
+            String status = paymentInfo.status();
+            Payment payment = existing.get(paymentId);
 
-                if (customData != null) {
-                    log.info("customData 파싱 완료: {}", customData);
-
-                    if (customData.get("reservationData") != null) {
-                        Object reservationDataObj = customData.get("reservationData");
-                        Map<String, Object> reservationData = null;
-
-                        // reservationData도 String일 수 있으므로 체크
-                        if (reservationDataObj instanceof String) {
-                            reservationData = objectMapper.readValue((String) reservationDataObj, new TypeReference<Map<String, Object>>() {});
-                        } else if (reservationDataObj instanceof Map) {
-                            reservationData = (Map<String, Object>) reservationDataObj;
-                        }
-
-                        if (reservationData != null) {
-                            log.info("reservationData 파싱 완료: {}", reservationData);
-
-                            // 쿠폰 관련 필드 디버깅
-                            Object couponCodeValue = reservationData.get("couponCode");
-                            Object couponNameValue = reservationData.get("couponName");
-                            Object couponDiscountValue = reservationData.get("couponDiscount");
-
-                            log.info("쿠폰 필드 확인 - couponCode: {} (타입: {}), couponName: {} (타입: {}), couponDiscount: {} (타입: {})",
-                                couponCodeValue,
-                                couponCodeValue != null ? couponCodeValue.getClass().getName() : "null",
-                                couponNameValue,
-                                couponNameValue != null ? couponNameValue.getClass().getName() : "null",
-                                couponDiscountValue,
-                                couponDiscountValue != null ? couponDiscountValue.getClass().getName() : "null");
-
-                            // 쿠폰 코드
-                            if (couponCodeValue != null) {
-                                String couponCodeStr = couponCodeValue.toString();
-                                builder.couponCode(couponCodeStr);
-                                log.info("쿠폰 코드 추출 성공: {}", couponCodeStr);
-                            } else {
-                                log.warn("쿠폰 코드가 null입니다");
-                            }
-
-                            // 쿠폰 이름
-                            if (couponNameValue != null) {
-                                String couponNameStr = couponNameValue.toString();
-                                builder.couponName(couponNameStr);
-                                log.info("쿠폰 이름 추출 성공: {}", couponNameStr);
-                            } else {
-                                log.warn("쿠폰 이름이 null입니다");
-                            }
-
-                            // 쿠폰 할인 금액
-                            if (couponDiscountValue != null) {
-                                Integer discountAmount = null;
-
-                                if (couponDiscountValue instanceof Integer) {
-                                    discountAmount = (Integer) couponDiscountValue;
-                                } else if (couponDiscountValue instanceof Long) {
-                                    discountAmount = ((Long) couponDiscountValue).intValue();
-                                } else if (couponDiscountValue instanceof Double) {
-                                    discountAmount = ((Double) couponDiscountValue).intValue();
-                                } else {
-                                    try {
-                                        discountAmount = Integer.parseInt(couponDiscountValue.toString());
-                                    } catch (NumberFormatException e) {
-                                        log.error("쿠폰 할인 금액 파싱 실패: {}", couponDiscountValue, e);
-                                    }
-                                }
-
-                                if (discountAmount != null && discountAmount > 0) {
-                                    builder.couponDiscount(discountAmount);
-                                    log.info("쿠폰 할인 금액 추출 성공: {}원", discountAmount);
-                                } else {
-                                    log.warn("쿠폰 할인 금액이 0이거나 유효하지 않습니다: {}", discountAmount);
-                                }
-                            } else {
-                                log.warn("쿠폰 할인 금액이 null입니다");
-                            }
-                        }
-                    }
+            if (payment == null) {
+                PortOnePaymentDto.CustomData customData = customDataByPaymentId.get(paymentId);
+                if (customData == null) {
+                    return;
+                }
+                Reservation reservation = reservations.get(customData.reservationNumber());
+                if (reservation == null) {
+                    // 결제 완료 후 예약 생성 전에 웹훅이 먼저 도착한 경우
+                    deferred.add(paymentId);
+                    return;
+                }
+                payment = paymentRepository.save(toPayment(paymentInfo, customData, reservation));
+                log.info("웹훅 결제 저장 - paymentId: {}, reservationNumber: {}", paymentId, reservation.getReservationNumber());
+            } else if (status != null && !status.equals(payment.getPaymentStatus()) && !isLocallyRefunded(payment, status)) {
+                log.info("웹훅 결제 상태 반영 - paymentId: {}, {} -> {}", paymentId, payment.getPaymentStatus(), status);
+                payment.setPaymentStatus(status);
+                if ("CANCELLED".equals(status) && payment.getCancelledAt() == null) {
+                    payment.setCancelledAt(now);
                 }
-            } catch (Exception e) {
-                log.error("customData 파싱 중 오류 발생", e);
             }
-        }
 
-        // 최상위 레벨에서도 쿠폰 정보 확인 (PortOne이 어떤 구조로 보내는지 확실하지 않으므로)
-        if (paymentInfo.get("promotionId") != null) {
-            builder.couponCode((String) paymentInfo.get("promotionId"));
-            log.info("최상위에서 쿠폰 코드 추출: {}", paymentInfo.get("promotionId"));
-        }
-        if (paymentInfo.get("couponCode") != null) {
-            builder.couponCode((String) paymentInfo.get("couponCode"));
-            log.info("최상위에서 쿠폰 코드 추출: {}", paymentInfo.get("couponCode"));
-        }
-        if (paymentInfo.get("couponName") != null) {
-            builder.couponName((String) paymentInfo.get("couponName"));
-            log.info("최상위에서 쿠폰 이름 추출: {}", paymentInfo.get("couponName"));
-        }
-
-        Payment payment = builder.build();
-        Payment savedPayment = paymentRepository.save(payment);
-
-        log.info("결제 정보 저장 완료 - paymentId: {}, reservationNumber: {}",
-                savedPayment.getPaymentId(), reservationNumber);
+            Reservation reservation = payment.getReservation();
+            if (reservation.getPaymentId() == null) {
+                reservation.setPaymentId(paymentId);
+            }
+            if (!Objects.equals(payment.getPaymentStatus(), reservation.getPaymentStatus())) {
+                reservation.setPaymentStatus(payment.getPaymentStatus());
+            }
+            if (reservation.getPaymentTime() == null && "PAID".equals(payment.getPaymentStatus())) {
+                reservation.setPaymentTime(payment.getPaymentTime());
+            }
+        });
 
-        return savedPayment;
+        return deferred;
     }
 
     /**
-     * 카드 정보 추출 헬퍼 메서드
+     * 포트원 customData(JSON 문자열) 해석
+     * reservationData는 객체 또는 JSON 문자열로 올 수 있으며, 해석할 수 없으면 빈 값을 반환합니다.
+     * userId와 reservationNumber는 최상위에 없으면 reservationData 안의 값을 사용합니다.
      */
-    private void extractCardInfo(Payment.PaymentBuilder builder, Map<String, Object> card) {
-        if (card.get("issuer") != null) {
-            builder.cardCompany((String) card.get("issuer"));
-        }
-        if (card.get("type") != null) {
-            builder.cardType((String) card.get("type"));
+    public PortOnePaymentDto.CustomData parseCustomData(PortOnePaymentDto.Payment paymentInfo) {
+        String customData = paymentInfo.customData();
+        if (customData == null || customData.isBlank()) {
+            return PortOnePaymentDto.CustomData.EMPTY;
         }
-        if (card.get("number") != null) {
-            builder.cardNumber((String) card.get("number"));
-        }
-        if (card.get("name") != null) {
-            builder.cardName((String) card.get("name"));
+        try {
+            JsonNode root = objectMapper.readTree(customData);
+            JsonNode reservationData = root.path("reservationData");
+            if (reservationData.isTextual()) {
+                reservationData = objectMapper.readTree(reservationData.asText());
+            }
+            PortOnePaymentDto.ReservationData data = reservationData.isObject()
+                    ? objectMapper.treeToValue(reservationData, PortOnePaymentDto.ReservationData.class)
+                    : null;
+            return new PortOnePaymentDto.CustomData(
+                    root.hasNonNull("userId") ? root.get("userId").asText() : data != null ? data.userId() : null,
+                    root.hasNonNull("reservationNumber") ? root.get("reservationNumber").asText()
+                            : data != null ? data.reservationNumber() : null,
+                    data);
+        } catch (Exception e) {
+            log.warn("customData 해석 실패 - paymentId: {}, error: {}", paymentInfo.id(), e.getMessage());
+            return PortOnePaymentDto.CustomData.EMPTY;
         }
     }
 
+    // 관리자가 환불 처리한 결제는 포트원 취소 상태로 덮어쓰지 않음
+    private static boolean isLocallyRefunded(Payment payment, String portOneStatus) {
+        return "REFUNDED".equals(payment.getPaymentStatus())
+                && ("CANCELLED".equals(portOneStatus) || "PARTIAL_CANCELLED".equals(portOneStatus));
+    }
+
     /**
      * 결제 ID로 조회
      */
@@ -369,6 +306,39 @@ public class PaymentService {
         return paymentRepository.findAllByReservationId(reservationId);
     }
 
+    /**
+     * 사용자 결제 내역 커서 페이지 조회 (생성일시 내림차순)
+     * 결제와 예약을 조인한 한 번의 쿼리로 DTO까지 조회합니다.
+     */
+    @Transactional(readOnly = true)
+    public PaymentHistoryPageDto getPaymentHistory(Long userId, LocalDateTime cursorCreatedAt, Long cursorId, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_HISTORY_PAGE_SIZE));
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<PaymentHistoryDto> payments = paymentRepository.findHistoryByUserId(
+                userId, cursorId != null ? cursorCreatedAt : null, cursorId, PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = payments.size() > pageSize;
+        List<PaymentHistoryDto> page = hasNext ? payments.subList(0, pageSize) : payments;
+        PaymentHistoryDto last = page.isEmpty() ? null : page.get(page.size() - 1);
+
+        return PaymentHistoryPageDto.builder()
+                .payments(page)
+                .size(page.size())
+                .hasNext(hasNext)
+                .nextCursorCreatedAt(hasNext ? last.getCreatedAt() : null)
+                .nextCursorId(hasNext ? last.getId() : null)
+                .build();
+    }
+
+    /**
+     * 사용자의 전체 결제 내역 조회 (관리자 회원 상세의 결제 통계용)
+     */
+    @Transactional(readOnly = true)
+    public List<PaymentHistoryDto> getAllPaymentHistory(Long userId) {
+        return paymentRepository.findHistoryByUserId(userId, null, null, Pageable.unpaged());
+    }
+
     /**
      * 결제 취소 처리
      */
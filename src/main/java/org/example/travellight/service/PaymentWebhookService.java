@@ -0,0 +1,347 @@
+package org.example.travellight.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.travellight.config.PortOneProperties;
+import org.example.travellight.dto.PortOnePaymentDto;
+import org.example.travellight.repository.PaymentWebhookInboxRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포트원 웹훅 수신함
+ * 웹훅은 서명을 검증한 뒤 payment_webhook_inbox 테이블에 webhook-id 기준으로 한 번만 기록하고 바로 응답합니다.
+ * 별도 작업자가 쌓인 웹훅을 묶어서 포트원에 결제 상태를 재조회하고, 결제와 예약에 한 트랜잭션으로 반영합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentWebhookService {
+
+    // 한 번에 꺼내 처리하는 최대 웹훅 수
+    private static final int BATCH_SIZE = 50;
+
+    // 서명 시각 허용 오차 (재전송 공격 방지)
+    private static final long TIMESTAMP_TOLERANCE_SECONDS = 300;
+
+    // 첫 재시도 대기 시간 (이후 2배씩 증가)
+    private static final long BASE_BACKOFF_SECONDS = 10;
+
+    // 재시도 대기 시간 상한
+    private static final long MAX_BACKOFF_SECONDS = 600;
+
+    // 이 시간 이상 처리 중인 웹훅은 작업자가 중단된 것으로 보고 다시 대기 상태로 변경
+    private static final long STUCK_PROCESSING_MINUTES = 10;
+
+    private static final String SECRET_PREFIX = "whsec_";
+
+    private final PaymentWebhookInboxRepository paymentWebhookInboxRepository;
+    private final PortOnePaymentService portOnePaymentService;
+    private final PaymentService paymentService;
+    private final PortOneProperties portOneProperties;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${portone.webhook.max-concurrency:4}")
+    private int maxConcurrency;
+
+    @Value("${portone.webhook.max-attempts:10}")
+    private int maxAttempts;
+
+    // 웹훅 처리 작업자 (동시에 처리하는 묶음 수를 제한하는 가상 스레드 풀)
+    private ExecutorService workers;
+
+    // 비어 있는 작업자 자리 (자리가 있을 때만 웹훅을 처리 중으로 변경하여 큐에서 중단 판정 시간을 넘기지 않게 함)
+    private Semaphore slots;
+
+    // 묶음 안의 결제 재조회용 (동시 호출 수는 PortOneApiClient의 벌크헤드가 제한)
+    private ExecutorService verifiers;
+
+    @PostConstruct
+    public void init() {
+        workers = Executors.newFixedThreadPool(maxConcurrency, Thread.ofVirtual().name("payment-webhook-", 0).factory());
+        slots = new Semaphore(maxConcurrency);
+        verifiers = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // 처리하지 못한 웹훅은 PROCESSING 상태로 남아 다음 기동 후 다시 처리됨
+        workers.shutdown();
+        if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+        verifiers.shutdownNow();
+    }
+
+    /**
+     * 웹훅 서명 검증 후 수신함에 기록하고 처리 예약
+     * 이미 기록된 webhook-id는 무시하므로 포트원이 같은 웹훅을 재전송해도 한 번만 처리됩니다.
+     * @throws InvalidWebhookException 서명이 없거나 맞지 않는 경우
+     */
+    public void receive(String webhookId, String webhookTimestamp, String webhookSignature, String payload) {
+        if (webhookId == null || webhookTimestamp == null || webhookSignature == null) {
+            throw new InvalidWebhookException("웹훅 서명 헤더가 없습니다.");
+        }
+        if (!isValidSignature(webhookId, webhookTimestamp, webhookSignature, payload)) {
+            throw new InvalidWebhookException("웹훅 서명이 올바르지 않습니다.");
+        }
+
+        String eventType;
+        String paymentId;
+        try {
+            JsonNode root = objectMapper.readTree(payload);
+            eventType = root.path("type").asText("UNKNOWN");
+            paymentId = root.path("data").path("paymentId").asText(null);
+        } catch (Exception e) {
+            throw new InvalidWebhookException("웹훅 본문을 해석할 수 없습니다.");
+        }
+
+        List<Long> inserted = transactionTemplate.execute(status ->
+                paymentWebhookInboxRepository.insertIfAbsent(webhookId, eventType, paymentId, payload));
+        if (inserted == null || inserted.isEmpty()) {
+            log.info("이미 수신한 포트원 웹훅: webhookId={}, type={}", webhookId, eventType);
+            return;
+        }
+
+        log.info("포트원 웹훅 수신: webhookId={}, type={}, paymentId={}", webhookId, eventType, paymentId);
+        dispatch(inserted);
+    }
+
+    /**
+     * 결제에 아직 반영되지 않은 웹훅이 있는지 여부
+     */
+    public boolean hasUnprocessedWebhook(String paymentId) {
+        return paymentWebhookInboxRepository.existsUnprocessedByPaymentId(paymentId);
+    }
+
+    /**
+     * 처리 시각이 된 대기 웹훅 처리 (수신 직후 처리하지 못한 웹훅과 재시도 대상)
+     */
+    @Scheduled(fixedDelay = 5000, initialDelay = 10000) // 5초마다 실행 (5,000ms)
+    public void processDue() {
+        try {
+            Integer released = transactionTemplate.execute(status ->
+                    paymentWebhookInboxRepository.releaseStuckProcessing(
+                            LocalDateTime.now().minusMinutes(STUCK_PROCESSING_MINUTES)));
+            if (released != null && released > 0) {
+                log.warn("처리 중 중단된 웹훅 {}건을 다시 대기 상태로 변경", released);
+            }
+
+            // 작업자 자리가 빌 때만 꺼내고, 자리가 없으면 남은 웹훅은 다음 주기에 처리
+            while (slots.tryAcquire()) {
+                List<Object[]> claimed;
+                try {
+                    claimed = transactionTemplate.execute(status -> paymentWebhookInboxRepository.claimDueReturning(BATCH_SIZE));
+                } catch (RuntimeException e) {
+                    slots.release();
+                    throw e;
+                }
+                if (claimed == null || claimed.isEmpty()) {
+                    slots.release();
+                    return;
+                }
+                execute(() -> process(claimed));
+                if (claimed.size() < BATCH_SIZE) {
+                    return;
+                }
+            }
+        } catch (RejectedExecutionException e) {
+            log.warn("웹훅 작업자가 종료되어 대기 웹훅 처리를 중단합니다.");
+        } catch (Exception e) {
+            log.error("대기 웹훅 처리 중 오류 발생", e);
+        }
+    }
+
+    private void dispatch(List<Long> inboxIds) {
+        // 작업자가 모두 바쁘면 대기 상태로 두고 주기 작업에서 처리
+        if (!slots.tryAcquire()) {
+            log.debug("웹훅 작업자가 모두 사용 중이어서 주기 작업에서 처리합니다: ids={}", inboxIds);
+            return;
+        }
+        try {
+            execute(() -> {
+                try {
+                    List<Object[]> claimed = transactionTemplate.execute(status ->
+                            paymentWebhookInboxRepository.claimByIdsReturning(inboxIds));
+                    if (claimed != null && !claimed.isEmpty()) {
+                        process(claimed);
+                    }
+                } catch (Exception e) {
+                    // 대기 상태로 남은 웹훅은 주기 작업에서 다시 처리됨
+                    log.error("웹훅 처리 시작 중 오류 발생: ids={}", inboxIds, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("웹훅 작업자가 종료되어 주기 작업에서 처리합니다: ids={}", inboxIds);
+        }
+    }
+
+    /**
+     * 미리 확보한 작업자 자리에서 작업 실행 (작업이 끝나거나 실행이 거부되면 자리 반환)
+     */
+    private void execute(Runnable task) {
+        try {
+            workers.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    slots.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            slots.release();
+            throw e;
+        }
+    }
+
+    /**
+     * 처리 중으로 변경된 웹훅(id, 결제 ID, 시도 횟수)의 결제를 재조회하여 한 번에 반영
+     * 같은 결제의 웹훅이 여러 건이어도 포트원 조회는 한 번만 합니다.
+     */
+    private void process(List<Object[]> claimedRows) {
+        Set<String> paymentIds = new LinkedHashSet<>();
+        for (Object[] row : claimedRows) {
+            if (row[1] != null) {
+                paymentIds.add((String) row[1]);
+            }
+        }
+
+        // 웹훅으로 상태가 바뀌었으므로 캐시된 검증 결과를 버리고 병렬로 재조회
+        Map<String, CompletableFuture<PortOnePaymentDto.Payment>> futures = new HashMap<>();
+        for (String paymentId : paymentIds) {
+            portOnePaymentService.invalidateVerification(paymentId);
+            futures.put(paymentId, CompletableFuture.supplyAsync(
+                    () -> portOnePaymentService.verifyPayment(paymentId), verifiers));
+        }
+
+        Map<String, PortOnePaymentDto.Payment> verified = new HashMap<>();
+        futures.forEach((paymentId, future) -> {
+            PortOnePaymentDto.Payment paymentInfo = future.exceptionally(e -> null).join();
+            if (paymentInfo != null) {
+                verified.put(paymentId, paymentInfo);
+            }
+        });
+
+        Set<String> deferred;
+        String applyError = null;
+        try {
+            deferred = verified.isEmpty() ? Set.of() : paymentService.applyVerifiedPayments(verified.values());
+        } catch (Exception e) {
+            log.error("웹훅 결제 반영 실패: paymentIds={}", verified.keySet(), e);
+            deferred = verified.keySet();
+            applyError = "결제 반영 실패: " + e.getMessage();
+        }
+
+        Set<String> notApplied = deferred;
+        String failure = applyError;
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Long> processedIds = new ArrayList<>();
+            for (Object[] row : claimedRows) {
+                Long id = ((Number) row[0]).longValue();
+                String paymentId = (String) row[1];
+                int attempts = ((Number) row[2]).intValue();
+
+                String error = null;
+                if (paymentId != null && !verified.containsKey(paymentId)) {
+                    error = "포트원 결제 조회 실패";
+                } else if (paymentId != null && notApplied.contains(paymentId)) {
+                    error = failure != null ? failure : "예약이 아직 생성되지 않음";
+                }
+
+                if (error == null) {
+                    processedIds.add(id);
+                } else if (attempts >= maxAttempts) {
+                    paymentWebhookInboxRepository.markFailed(id, error);
+                    log.error("웹훅 처리 최종 실패: id={}, paymentId={}, 시도={}회, 사유={}", id, paymentId, attempts, error);
+                } else {
+                    paymentWebhookInboxRepository.scheduleRetry(id, now.plusSeconds(backoffSeconds(attempts)), error);
+                }
+            }
+            if (!processedIds.isEmpty()) {
+                paymentWebhookInboxRepository.markProcessed(processedIds, now);
+            }
+        });
+    }
+
+    /**
+     * Standard Webhooks 서명 검증
+     * webhook-signature 헤더의 v1 서명 중 하나가 "{webhook-id}.{webhook-timestamp}.{본문}"의 HMAC-SHA256과 일치해야 합니다.
+     */
+    private boolean isValidSignature(String webhookId, String webhookTimestamp, String webhookSignature, String payload) {
+        String secret = portOneProperties.getWebhook();
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalStateException("포트원 웹훅 시크릿이 설정되지 않았습니다.");
+        }
+
+        long timestamp;
+        try {
+            timestamp = Long.parseLong(webhookTimestamp);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        if (Math.abs(System.currentTimeMillis() / 1000 - timestamp) > TIMESTAMP_TOLERANCE_SECONDS) {
+            log.warn("웹훅 서명 시각이 허용 범위를 벗어남: webhookId={}, timestamp={}", webhookId, webhookTimestamp);
+            return false;
+        }
+
+        byte[] expected;
+        try {
+            String encodedKey = secret.startsWith(SECRET_PREFIX) ? secret.substring(SECRET_PREFIX.length()) : secret;
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(Base64.getDecoder().decode(encodedKey), "HmacSHA256"));
+            byte[] signature = mac.doFinal((webhookId + "." + webhookTimestamp + "." + payload).getBytes(StandardCharsets.UTF_8));
+            expected = Base64.getEncoder().encodeToString(signature).getBytes(StandardCharsets.UTF_8);
+        } catch (Exception e) {
+            throw new IllegalStateException("웹훅 서명 계산 실패", e);
+        }
+
+        for (String versioned : webhookSignature.trim().split(" ")) {
+            int comma = versioned.indexOf(',');
+            if (comma > 0 && "v1".equals(versioned.substring(0, comma))
+                    && MessageDigest.isEqual(expected, versioned.substring(comma + 1).getBytes(StandardCharsets.UTF_8))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long backoffSeconds(int attempts) {
+        return Math.min(BASE_BACKOFF_SECONDS << Math.min(attempts - 1, 20), MAX_BACKOFF_SECONDS);
+    }
+
+    /**
+     * 서명 검증 실패 또는 해석할 수 없는 웹훅
+     */
+    public static class InvalidWebhookException extends RuntimeException {
+        public InvalidWebhookException(String message) {
+            super(message);
+        }
+    }
+}
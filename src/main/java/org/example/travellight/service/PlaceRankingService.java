@@ -0,0 +1,180 @@
+package org.example.travellight.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.travellight.entity.PlaceReviewStats;
+import org.example.travellight.repository.PartnershipRepository;
+import org.example.travellight.repository.PlaceReviewStatsRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 상위 평점 제휴점 순위
+ * 제휴점 리뷰 집계를 추천 점수 순으로 정렬된 상태로 메모리에 유지하고, 리뷰가 바뀐 제휴점만 커밋 이후 다시 정렬합니다.
+ * 상위 K개 조회는 정렬된 집합의 앞부분만 읽으며, 위치 기준 조회는 앞에서부터 반경 안의 제휴점을 고릅니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PlaceRankingService {
+
+    private static final Comparator<RankedPlace> RANKING_ORDER = Comparator
+            .comparingDouble(RankedPlace::recommendationScore).reversed()
+            .thenComparing(Comparator.comparingDouble(RankedPlace::averageRating).reversed())
+            .thenComparing(Comparator.comparingLong(RankedPlace::reviewCount).reversed())
+            .thenComparing(RankedPlace::placeName)
+            .thenComparing(RankedPlace::placeAddress);
+
+    private final PlaceReviewStatsRepository placeReviewStatsRepository;
+    private final PartnershipRepository partnershipRepository;
+
+    // 추천 점수 순 제휴점
+    private final NavigableSet<RankedPlace> ranking = new ConcurrentSkipListSet<>(RANKING_ORDER);
+
+    // 매장 키(매장명|주소)별 순위 항목
+    private final Map<String, RankedPlace> placesByKey = new ConcurrentHashMap<>();
+
+    // 매장 키별 위치 (위도, 경도)
+    private volatile Map<String, double[]> locations = Map.of();
+
+    /**
+     * 제휴점 리뷰 집계와 위치를 다시 적재 (집계 재구축 이후, 10분마다)
+     */
+    @Scheduled(fixedDelay = 600000, initialDelay = 600000) // 10분마다 실행 (600,000ms)
+    public synchronized void reload() {
+        try {
+            Map<String, double[]> loadedLocations = new HashMap<>();
+            for (Object[] row : partnershipRepository.findApprovedLocations()) {
+                loadedLocations.put(keyOf((String) row[0], (String) row[1]),
+                        new double[]{((Number) row[2]).doubleValue(), ((Number) row[3]).doubleValue()});
+            }
+            locations = loadedLocations;
+
+            List<PlaceReviewStats> stats = placeReviewStatsRepository.findByReviewCountGreaterThanEqual(1);
+            Map<String, RankedPlace> loaded = new HashMap<>();
+            for (PlaceReviewStats stat : stats) {
+                loaded.put(keyOf(stat.getPlaceName(), stat.getPlaceAddress()), RankedPlace.of(stat));
+            }
+
+            // 사라진 제휴점 제거 후 나머지 교체
+            for (String key : new ArrayList<>(placesByKey.keySet())) {
+                if (!loaded.containsKey(key)) {
+                    replace(key, null);
+                }
+            }
+            loaded.forEach(this::replace);
+            log.debug("제휴점 순위 적재 완료: 제휴점 {}개, 위치 {}개", loaded.size(), loadedLocations.size());
+        } catch (Exception e) {
+            log.error("제휴점 순위 적재 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 리뷰가 바뀐 제휴점의 순위를 커밋 이후 갱신
+     */
+    public void refresh(String placeName, String placeAddress) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refreshNow(placeName, placeAddress);
+                }
+            });
+        } else {
+            refreshNow(placeName, placeAddress);
+        }
+    }
+
+    /**
+     * 추천 점수 상위 제휴점
+     */
+    public List<RankedPlace> getTopRated(int limit) {
+        List<RankedPlace> result = new ArrayList<>(Math.max(limit, 0));
+        for (RankedPlace place : ranking) {
+            if (result.size() >= limit) {
+                break;
+            }
+            result.add(place);
+        }
+        return result;
+    }
+
+    /**
+     * 지정한 위치에서 반경 안에 있는 추천 점수 상위 제휴점
+     */
+    public List<RankedPlace> getTopRatedNear(double latitude, double longitude, double radiusKm, int limit) {
+        Map<String, double[]> currentLocations = locations;
+        List<RankedPlace> result = new ArrayList<>(Math.max(limit, 0));
+        for (RankedPlace place : ranking) {
+            if (result.size() >= limit) {
+                break;
+            }
+            double[] location = currentLocations.get(keyOf(place.placeName(), place.placeAddress()));
+            if (location != null && distanceKm(latitude, longitude, location[0], location[1]) <= radiusKm) {
+                result.add(place);
+            }
+        }
+        return result;
+    }
+
+    private synchronized void refreshNow(String placeName, String placeAddress) {
+        try {
+            RankedPlace updated = placeReviewStatsRepository.findByPlaceNameAndPlaceAddress(placeName, placeAddress)
+                    .filter(stat -> stat.getReviewCount() > 0)
+                    .map(RankedPlace::of)
+                    .orElse(null);
+            replace(keyOf(placeName, placeAddress), updated);
+        } catch (Exception e) {
+            // 다음 적재 주기에 반영됨
+            log.error("제휴점 순위 갱신 중 오류 발생: {} {}", placeName, placeAddress, e);
+        }
+    }
+
+    private void replace(String key, RankedPlace updated) {
+        RankedPlace previous = updated != null ? placesByKey.put(key, updated) : placesByKey.remove(key);
+        if (previous != null) {
+            ranking.remove(previous);
+        }
+        if (updated != null) {
+            ranking.add(updated);
+        }
+    }
+
+    private static String keyOf(String placeName, String placeAddress) {
+        return placeName + "|" + placeAddress;
+    }
+
+    // 두 위치 간의 거리 (킬로미터 단위)
+    private static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        final double R = 6371; // 지구 반지름 (킬로미터)
+
+        double latDistance = Math.toRadians(lat2 - lat1);
+        double lngDistance = Math.toRadians(lng2 - lng1);
+
+        double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(lngDistance / 2) * Math.sin(lngDistance / 2);
+
+        return R * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+
+    public record RankedPlace(String placeName, String placeAddress, double averageRating,
+                              long reviewCount, double recommendationScore) {
+
+        private static RankedPlace of(PlaceReviewStats stats) {
+            return new RankedPlace(stats.getPlaceName(), stats.getPlaceAddress(), stats.getAverageRating(),
+                    stats.getReviewCount(), stats.getRecommendationScore());
+        }
+    }
+}
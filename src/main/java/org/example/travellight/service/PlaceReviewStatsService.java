@@ -0,0 +1,145 @@
+package org.example.travellight.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.travellight.entity.PlaceReviewStats;
+import org.example.travellight.entity.Review;
+import org.example.travellight.entity.ReviewStatus;
+import org.example.travellight.repository.PlaceReviewStatsRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 제휴점별 리뷰 집계(place_review_stats) 관리
+ * 리뷰 변경 시 같은 트랜잭션 안에서 증감분만 반영하고, 어긋난 값은 매일 재구축으로 바로잡습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PlaceReviewStatsService {
+
+    private final PlaceReviewStatsRepository placeReviewStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final PlaceRankingService placeRankingService;
+
+    /**
+     * 새로 활성화된 리뷰 반영 (작성, 숨김 해제 등)
+     */
+    @Transactional
+    public void reviewAdded(Review review) {
+        apply(review.getPlaceName(), review.getPlaceAddress(), null, review.getRating());
+    }
+
+    /**
+     * 더 이상 활성 상태가 아닌 리뷰 반영 (삭제, 숨김 등)
+     */
+    @Transactional
+    public void reviewRemoved(Review review) {
+        apply(review.getPlaceName(), review.getPlaceAddress(), review.getRating(), null);
+    }
+
+    /**
+     * 여러 활성 리뷰를 한 번에 제외 (일괄 삭제)
+     * 제휴점별로 증감분을 모아 제휴점당 한 번만 반영합니다.
+     */
+    @Transactional
+    public void reviewsRemoved(Collection<Review> reviews) {
+        Map<Place, long[]> bucketsByPlace = new LinkedHashMap<>();
+        for (Review review : reviews) {
+            bucketsByPlace.computeIfAbsent(new Place(review.getPlaceName(), review.getPlaceAddress()),
+                    place -> new long[5])[review.getRating() - 1]--;
+        }
+        bucketsByPlace.forEach((place, buckets) -> apply(place.name(), place.address(), buckets));
+    }
+
+    /**
+     * 활성 리뷰의 평점 변경 반영
+     */
+    @Transactional
+    public void ratingChanged(Review review, Integer previousRating) {
+        if (previousRating == null || previousRating.equals(review.getRating())) {
+            return;
+        }
+        apply(review.getPlaceName(), review.getPlaceAddress(), previousRating, review.getRating());
+    }
+
+    /**
+     * 리뷰 상태 변경 반영 (활성 ↔ 비활성)
+     */
+    @Transactional
+    public void statusChanged(Review review, ReviewStatus previousStatus) {
+        boolean wasActive = previousStatus == ReviewStatus.ACTIVE;
+        boolean isActive = review.getStatus() == ReviewStatus.ACTIVE;
+        if (wasActive && !isActive) {
+            reviewRemoved(review);
+        } else if (!wasActive && isActive) {
+            reviewAdded(review);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<PlaceReviewStats> findByPlace(String placeName, String placeAddress) {
+        return placeReviewStatsRepository.findByPlaceNameAndPlaceAddress(placeName, placeAddress);
+    }
+
+    /**
+     * 리뷰 테이블에서 전체 집계를 다시 생성 (기동 시, 매일 새벽)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 30 3 * * *") // 매일 새벽 3시 30분 실행
+    public void rebuild() {
+        try {
+            long startTime = System.currentTimeMillis();
+            Integer places = transactionTemplate.execute(status -> {
+                placeReviewStatsRepository.deleteAllStats();
+                int inserted = placeReviewStatsRepository.insertFromReviews();
+                placeReviewStatsRepository.refreshAllDerived();
+                return inserted;
+            });
+            log.info("제휴점 리뷰 집계 재구축 완료: 제휴점 {}개 ({}ms)", places, System.currentTimeMillis() - startTime);
+            placeRankingService.reload();
+        } catch (Exception e) {
+            log.error("제휴점 리뷰 집계 재구축 중 오류 발생", e);
+        }
+    }
+
+    private void apply(String placeName, String placeAddress, Integer removedRating, Integer addedRating) {
+        long[] buckets = new long[5];
+        if (removedRating != null) {
+            buckets[removedRating - 1]--;
+        }
+        if (addedRating != null) {
+            buckets[addedRating - 1]++;
+        }
+        apply(placeName, placeAddress, buckets);
+    }
+
+    /**
+     * 평점별(1~5점) 리뷰 수 증감분을 반영
+     */
+    private void apply(String placeName, String placeAddress, long[] buckets) {
+        long countDelta = 0;
+        long sumDelta = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            countDelta += buckets[i];
+            sumDelta += buckets[i] * (i + 1);
+        }
+
+        placeReviewStatsRepository.applyDelta(placeName, placeAddress, countDelta, sumDelta,
+                buckets[0], buckets[1], buckets[2], buckets[3], buckets[4]);
+        placeReviewStatsRepository.refreshDerived(placeName, placeAddress);
+        placeRankingService.refresh(placeName, placeAddress);
+    }
+
+    private record Place(String name, String address) {
+    }
+}
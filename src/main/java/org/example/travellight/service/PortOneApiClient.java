@@ -0,0 +1,202 @@
+package org.example.travellight.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.example.travellight.config.PortOneClientProperties;
+import org.example.travellight.config.PortOneProperties;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 포트원 REST API 호출 공통 클라이언트
+ * 하나의 JDK HttpClient(HTTP/2, keep-alive 연결 재사용)를 공유하고, 연결/응답 타임아웃을 적용합니다.
+ * 동시 호출 수를 세마포어로 제한(벌크헤드)하고, 연속 실패 시 서킷을 열어 포트원 장애가 요청 스레드를 붙잡지 않도록 합니다.
+ * 호출 지연 시간은 portone.api.latency 타이머(operation, outcome 태그)로 기록합니다.
+ */
+@Component
+@Slf4j
+public class PortOneApiClient {
+
+    private static final ParameterizedTypeReference<Map<String, Object>> MAP_TYPE = new ParameterizedTypeReference<>() {
+    };
+
+    private final PortOneProperties portOneProperties;
+    private final PortOneClientProperties clientProperties;
+    private final MeterRegistry meterRegistry;
+    private final RestClient restClient;
+    private final Semaphore bulkhead;
+
+    // 서킷 상태 (this로 동기화)
+    private int consecutiveFailures;
+    private long openUntil;
+    private boolean trialInFlight;
+
+    public PortOneApiClient(PortOneProperties portOneProperties, PortOneClientProperties clientProperties,
+                            MeterRegistry meterRegistry) {
+        this.portOneProperties = portOneProperties;
+        this.clientProperties = clientProperties;
+        this.meterRegistry = meterRegistry;
+        this.bulkhead = new Semaphore(clientProperties.getMaxConcurrentCalls());
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(clientProperties.getConnectTimeoutMs()))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(clientProperties.getReadTimeoutMs()));
+
+        this.restClient = RestClient.builder()
+                .baseUrl(clientProperties.getBaseUrl())
+                .requestFactory(requestFactory)
+                .build();
+    }
+
+    /**
+     * GET 호출
+     */
+    public Map<String, Object> get(String operation, String path, Object... uriVariables) {
+        return call(operation, () -> restClient.get()
+                .uri(path, uriVariables)
+                .header(HttpHeaders.AUTHORIZATION, authorization())
+                .retrieve()
+                .body(MAP_TYPE));
+    }
+
+    /**
+     * GET 호출 (응답 본문을 지정한 타입으로 바로 역직렬화)
+     */
+    public <T> T get(String operation, Class<T> responseType, String path, Object... uriVariables) {
+        return call(operation, () -> restClient.get()
+                .uri(path, uriVariables)
+                .header(HttpHeaders.AUTHORIZATION, authorization())
+                .retrieve()
+                .body(responseType));
+    }
+
+    /**
+     * JSON 본문 POST 호출
+     */
+    public Map<String, Object> post(String operation, Object body, String path, Object... uriVariables) {
+        return call(operation, () -> restClient.post()
+                .uri(path, uriVariables)
+                .header(HttpHeaders.AUTHORIZATION, authorization())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body)
+                .retrieve()
+                .body(MAP_TYPE));
+    }
+
+    private <T> T call(String operation, Supplier<T> request) {
+        if (!tryEnterCircuit()) {
+            record(operation, "circuit_open", 0);
+            throw new PortOneUnavailableException("포트원 API 서킷이 열려 있어 호출하지 않습니다.");
+        }
+
+        boolean acquired;
+        try {
+            acquired = bulkhead.tryAcquire(clientProperties.getBulkheadWaitMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            releaseTrial();
+            throw new PortOneUnavailableException("포트원 API 호출 대기 중 인터럽트되었습니다.");
+        }
+        if (!acquired) {
+            releaseTrial();
+            record(operation, "rejected", 0);
+            throw new PortOneUnavailableException("포트원 API 동시 호출 한도를 초과했습니다.");
+        }
+
+        long start = System.nanoTime();
+        try {
+            T result = request.get();
+            onSuccess();
+            record(operation, "success", System.nanoTime() - start);
+            return result;
+        } catch (HttpClientErrorException e) {
+            // 4xx는 포트원이 정상 응답한 것이므로 서킷 실패로 세지 않음
+            onSuccess();
+            record(operation, "client_error", System.nanoTime() - start);
+            throw e;
+        } catch (RuntimeException e) {
+            onFailure();
+            record(operation, "error", System.nanoTime() - start);
+            throw e;
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private String authorization() {
+        return "PortOne " + portOneProperties.getApi();
+    }
+
+    /**
+     * 닫힘 상태이거나, 열림 시간이 지나 시험 호출 한 건을 허용할 때 true
+     */
+    private synchronized boolean tryEnterCircuit() {
+        if (consecutiveFailures < clientProperties.getFailureThreshold()) {
+            return true;
+        }
+        if (System.currentTimeMillis() < openUntil || trialInFlight) {
+            return false;
+        }
+        trialInFlight = true;
+        return true;
+    }
+
+    private synchronized void releaseTrial() {
+        trialInFlight = false;
+    }
+
+    private synchronized void onSuccess() {
+        if (consecutiveFailures >= clientProperties.getFailureThreshold()) {
+            log.info("포트원 API 서킷 닫힘");
+        }
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    private synchronized void onFailure() {
+        consecutiveFailures++;
+        trialInFlight = false;
+        if (consecutiveFailures >= clientProperties.getFailureThreshold()) {
+            openUntil = System.currentTimeMillis() + clientProperties.getOpenStateMs();
+            log.warn("포트원 API 서킷 열림: 연속 실패 {}회, {}ms 동안 호출 차단", consecutiveFailures,
+                    clientProperties.getOpenStateMs());
+        }
+    }
+
+    private void record(String operation, String outcome, long elapsedNanos) {
+        Timer.builder("portone.api.latency")
+                .description("포트원 API 호출 지연 시간")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 서킷이 열려 있거나 동시 호출 한도를 넘어 포트원 API를 호출하지 않았을 때
+     */
+    public static class PortOneUnavailableException extends RuntimeException {
+        public PortOneUnavailableException(String message) {
+            super(message);
+        }
+    }
+}
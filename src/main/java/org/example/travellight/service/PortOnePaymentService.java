@@ -2,54 +2,93 @@ package org.example.travellight.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.example.travellight.config.PortOneProperties;
-import org.springframework.http.*;
+import org.example.travellight.dto.PortOnePaymentDto;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class PortOnePaymentService {
     
-    private final PortOneProperties portOneProperties;
-    private final RestTemplate restTemplate = new RestTemplate();
+    // 진행 중 결제의 검증 결과 유지 시간 (같은 결제 흐름 안의 반복 검증 흡수)
+    private static final long PENDING_TTL_MILLIS = 5_000;
     
-    private static final String PORTONE_API_BASE_URL = "https://api.portone.io";
+    // 더 이상 바뀌지 않는 상태(결제 완료, 취소, 실패)의 검증 결과 유지 시간
+    private static final long TERMINAL_TTL_MILLIS = 300_000;
+    
+    private static final Set<String> TERMINAL_STATUSES = Set.of("PAID", "CANCELLED", "FAILED");
+    
+    // 연결 풀, 타임아웃, 서킷 브레이커가 적용된 공용 클라이언트
+    private final PortOneApiClient portOneApiClient;
+    
+    // 결제 ID별 검증 결과 (진행 중인 호출은 완료 전 future를 공유)
+    private final Map<String, CachedVerification> verifications = new ConcurrentHashMap<>();
     
     /**
      * 포트원 결제 검증 (REST API)
+     * 같은 결제를 동시에 또는 짧은 시간 안에 다시 검증하면 한 번의 포트원 호출 결과를 공유합니다.
+     * 실패(null)는 캐시하지 않으며, 결제 취소/웹훅 수신 시 invalidateVerification으로 무효화됩니다.
      * @param paymentId 결제 ID
      * @return 결제 정보
      */
-    public Map<String, Object> verifyPayment(String paymentId) {
+    public PortOnePaymentDto.Payment verifyPayment(String paymentId) {
+        long now = System.currentTimeMillis();
+        CompletableFuture<PortOnePaymentDto.Payment> created = new CompletableFuture<>();
+        CachedVerification cached = verifications.compute(paymentId, (id, existing) ->
+                existing != null && (!existing.result().isDone() || existing.expiresAt() > now)
+                        ? existing
+                        : new CachedVerification(created, Long.MAX_VALUE));
+        
+        if (cached.result() != created) {
+            log.debug("포트원 결제 검증 결과 공유: paymentId={}", paymentId);
+            return cached.result().join();
+        }
+        
+        PortOnePaymentDto.Payment result = fetchPayment(paymentId);
+        if (result == null) {
+            verifications.remove(paymentId, cached);
+        } else {
+            long ttl = TERMINAL_STATUSES.contains(result.status())
+                    ? TERMINAL_TTL_MILLIS : PENDING_TTL_MILLIS;
+            verifications.replace(paymentId, cached, new CachedVerification(created, System.currentTimeMillis() + ttl));
+        }
+        created.complete(result);
+        return result;
+    }
+    
+    /**
+     * 결제 검증 캐시 무효화 (결제 취소, 웹훅 수신 등 결제 상태 변경 시)
+     */
+    public void invalidateVerification(String paymentId) {
+        verifications.remove(paymentId);
+    }
+    
+    /**
+     * 만료된 검증 결과 정리
+     */
+    @Scheduled(fixedDelay = 60000) // 1분마다 실행 (60,000ms)
+    public void evictExpiredVerifications() {
+        long now = System.currentTimeMillis();
+        verifications.values().removeIf(cached -> cached.result().isDone() && cached.expiresAt() <= now);
+    }
+    
+    private PortOnePaymentDto.Payment fetchPayment(String paymentId) {
         try {
-            String url = PORTONE_API_BASE_URL + "/payments/" + paymentId;
-            
-            // 헤더 설정 - PortOne 인증 스킴 사용
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Authorization", "PortOne " + portOneProperties.getApi());
-            
-            HttpEntity<String> requestEntity = new HttpEntity<>(headers);
-            
-            log.info("포트원 결제 검증 요청: paymentId={}, url={}", paymentId, url);
-            
-            // API 호출
-            ResponseEntity<Map> response = restTemplate.exchange(
-                url,
-                HttpMethod.GET,
-                requestEntity,
-                Map.class
-            );
-            
-            Map<String, Object> responseBody = response.getBody();
+            // 응답 본문을 결제 DTO로 바로 역직렬화 (불변 레코드이므로 캐시된 결과를 그대로 공유)
+            PortOnePaymentDto.Payment payment = portOneApiClient.get("verify", PortOnePaymentDto.Payment.class,
+                    "/payments/{paymentId}", paymentId);
             
-            log.info("포트원 결제 검증 성공: paymentId={}, response={}", paymentId, responseBody);
+            log.info("포트원 결제 검증 성공: paymentId={}, status={}", paymentId,
+                    payment != null ? payment.status() : null);
             
-            return responseBody;
+            return payment;
             
         } catch (Exception e) {
             log.error("포트원 결제 검증 실패: paymentId={}, error={}", paymentId, e.getMessage(), e);
@@ -65,30 +104,15 @@ public class PortOnePaymentService {
      */
     public Map<String, Object> cancelPayment(String paymentId, String reason) {
         try {
-            String url = PORTONE_API_BASE_URL + "/payments/" + paymentId + "/cancel";
-            
-            // 헤더 설정 - PortOne 인증 스킴 사용 (Bearer 대신)
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.set("Authorization", "PortOne " + portOneProperties.getApi());
-            
             // 요청 바디 설정 (reason 필수)
             Map<String, Object> requestBody = new HashMap<>();
             requestBody.put("reason", reason);
             
-            HttpEntity<Map<String, Object>> requestEntity = new HttpEntity<>(requestBody, headers);
-            
-            log.info("포트원 결제 취소 요청: paymentId={}, reason={}, url={}", paymentId, reason, url);
+            log.info("포트원 결제 취소 요청: paymentId={}, reason={}", paymentId, reason);
             
             // API 호출
-            ResponseEntity<Map> response = restTemplate.exchange(
-                url,
-                HttpMethod.POST,
-                requestEntity,
-                Map.class
-            );
-            
-            Map<String, Object> responseBody = response.getBody();
+            Map<String, Object> responseBody = portOneApiClient.post("cancel", requestBody,
+                    "/payments/{paymentId}/cancel", paymentId);
             
             log.info("포트원 결제 취소 성공: paymentId={}, response={}", paymentId, responseBody);
             
@@ -97,6 +121,12 @@ public class PortOnePaymentService {
         } catch (Exception e) {
             log.error("포트원 결제 취소 실패: paymentId={}, error={}", paymentId, e.getMessage(), e);
             throw new RuntimeException("결제 취소 중 오류가 발생했습니다: " + e.getMessage(), e);
+        } finally {
+            // 취소 성공/실패와 관계없이 결제 상태를 다시 조회하도록 함
+            invalidateVerification(paymentId);
         }
     }
-}
\ No newline at end of file
+    
+    private record CachedVerification(CompletableFuture<PortOnePaymentDto.Payment> result, long expiresAt) {
+    }
+}
@@ -0,0 +1,252 @@
+package org.example.travellight.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.travellight.entity.Reservation;
+import org.example.travellight.repository.ReservationRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * 예약 만료 처리 엔진
+ * 가까운 시간 안에 보관이 끝나는 예약만 종료 시각 순 우선순위 큐에 올려두고,
+ * 종료 시각이 지나는 즉시 일괄 UPDATE로 완료 처리한 뒤 용량 장부에 보관량을 복원합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReservationExpiryService {
+
+    // 미리 적재하는 만료 예정 구간
+    private static final long LOOKAHEAD_MINUTES = 15;
+
+    // 한 번의 UPDATE로 처리하는 최대 예약 수
+    private static final int BATCH_SIZE = 500;
+
+    private final ReservationRepository reservationRepository;
+    private final CapacityLedgerService capacityLedgerService;
+    private final TransactionTemplate transactionTemplate;
+
+    // 종료 시각이 빠른 순서의 만료 대기열 (this로 동기화)
+    private final PriorityQueue<ExpiryEntry> queue = new PriorityQueue<>(
+            Comparator.comparing(ExpiryEntry::expiresAt).thenComparing(ExpiryEntry::reservationId));
+    private final Set<Long> queuedIds = new HashSet<>();
+
+    // 이 시각까지 종료되는 예약은 대기열에 적재되어 있음 (this로 동기화)
+    private LocalDateTime loadedUntil;
+
+    /**
+     * 기동 시 이미 지났거나 곧 만료될 예약을 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        loadUpcoming();
+    }
+
+    /**
+     * 다음 만료 예정 구간의 예약을 대기열에 추가 적재
+     * 적재 구간을 먼저 넓힌 뒤 조회하므로, 조회 도중 생성된 예약은 register에서 대기열에 들어갑니다.
+     */
+    @Scheduled(fixedDelay = 300000, initialDelay = 300000) // 5분마다 실행 (300,000ms)
+    public void loadUpcoming() {
+        LocalDateTime from;
+        LocalDateTime horizon = LocalDateTime.now().plusMinutes(LOOKAHEAD_MINUTES);
+        synchronized (this) {
+            from = loadedUntil;
+            if (from != null && !horizon.isAfter(from)) {
+                return;
+            }
+            loadedUntil = horizon;
+        }
+
+        try {
+            List<Object[]> rows = from == null
+                    ? reservationRepository.findReservedEndingUpTo(horizon.toLocalDate(), horizon.toLocalTime())
+                    : reservationRepository.findReservedEndingBetween(
+                            from.toLocalDate(), from.toLocalTime(), horizon.toLocalDate(), horizon.toLocalTime());
+
+            int added = 0;
+            synchronized (this) {
+                for (Object[] row : rows) {
+                    if (enqueue((Long) row[0], LocalDateTime.of((LocalDate) row[1], (LocalTime) row[2]))) {
+                        added++;
+                    }
+                }
+            }
+            log.debug("만료 예정 예약 적재: {}건 (~{}), 대기열={}건", added, horizon, size());
+        } catch (Exception e) {
+            // 적재하지 못한 구간은 다음 실행에서 다시 조회하도록 되돌림
+            synchronized (this) {
+                if (horizon.equals(loadedUntil)) {
+                    loadedUntil = from;
+                }
+            }
+            log.error("만료 예정 예약 적재 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 새로 생성된 예약이 이미 적재된 구간 안에서 끝나면 커밋 이후 대기열에 추가
+     */
+    public void register(Reservation reservation) {
+        if (!"RESERVED".equals(reservation.getStatus()) || reservation.getStorageEndDate() == null
+                || reservation.getStorageEndTime() == null) {
+            return;
+        }
+
+        Long reservationId = reservation.getId();
+        LocalDateTime expiresAt = LocalDateTime.of(reservation.getStorageEndDate(), reservation.getStorageEndTime());
+        Runnable enqueue = () -> {
+            synchronized (this) {
+                if (loadedUntil != null && !expiresAt.isAfter(loadedUntil)) {
+                    enqueue(reservationId, expiresAt);
+                }
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue.run();
+                }
+            });
+        } else {
+            enqueue.run();
+        }
+    }
+
+    /**
+     * 종료 시각이 지난 예약을 일괄 완료 처리
+     * 취소/완료 등으로 이미 RESERVED가 아닌 예약은 UPDATE 조건에서 제외됩니다.
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void expireDue() {
+        List<ExpiryEntry> due;
+        while (!(due = pollDue(LocalDateTime.now())).isEmpty()) {
+            List<ExpiryEntry> batch = due;
+            List<Long> reservationIds = batch.stream().map(ExpiryEntry::reservationId).toList();
+            try {
+                Integer completed = transactionTemplate.execute(status -> completeAndRelease(reservationIds));
+                log.info("예약 만료 처리 완료: 대상={}건, 완료={}건", batch.size(), completed);
+            } catch (Exception e) {
+                // 적재 구간이 이미 지나 다시 조회되지 않으므로 대기열에 되돌려 다음 실행에서 재시도
+                synchronized (this) {
+                    batch.forEach(entry -> enqueue(entry.reservationId(), entry.expiresAt()));
+                }
+                log.error("예약 만료 처리 중 오류 발생: 대상={}건", batch.size(), e);
+                return;
+            }
+            if (batch.size() < BATCH_SIZE) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 전체 매장의 만료된 예약을 청크 단위 일괄 UPDATE로 완료 처리 (백업/일일 정리용)
+     * 매장별로 반복하지 않고 UPDATE ... RETURNING 결과로 매장별 복원량을 계산합니다.
+     *
+     * @return 매장별 복원량 (매장명|주소 → 소/중/대)
+     */
+    public Map<String, int[]> expireAllOverdue() {
+        Map<String, int[]> freedByStore = new HashMap<>();
+        int completedTotal = 0;
+
+        while (true) {
+            Map<String, int[]> freed = new HashMap<>();
+            Integer completed = transactionTemplate.execute(status -> {
+                List<Object[]> rows = reservationRepository.completeExpiredReservedReturning(BATCH_SIZE);
+                freed.putAll(releaseByStore(rows));
+                return rows.size();
+            });
+
+            freed.forEach((key, bags) -> freedByStore.merge(key, bags, (a, b) -> new int[]{a[0] + b[0], a[1] + b[1], a[2] + b[2]}));
+            completedTotal += completed != null ? completed : 0;
+            if (completed == null || completed < BATCH_SIZE) {
+                break;
+            }
+        }
+
+        freedByStore.forEach((key, bags) -> log.debug("매장별 만료 예약 복원 용량: store={}, 복원용량(소/중/대)={}/{}/{}",
+                key, bags[0], bags[1], bags[2]));
+        log.info("전체 만료 예약 일괄 처리 완료: 처리된예약수={}, 매장수={}", completedTotal, freedByStore.size());
+        return freedByStore;
+    }
+
+    private int completeAndRelease(List<Long> reservationIds) {
+        List<Object[]> completed = reservationRepository.completeReservedByIdsReturning(reservationIds);
+        releaseByStore(completed);
+        return completed.size();
+    }
+
+    /**
+     * UPDATE ... RETURNING 결과(id, 매장명, 주소, 소/중/대 가방 수)를 매장별로 합산하여 용량 장부에 복원
+     *
+     * @return 매장별 복원량 (매장명|주소 → 소/중/대)
+     */
+    private Map<String, int[]> releaseByStore(List<Object[]> completedRows) {
+        Map<String, Object[]> stores = new HashMap<>();
+        Map<String, int[]> freed = new HashMap<>();
+        for (Object[] row : completedRows) {
+            String key = row[1] + "|" + row[2];
+            stores.putIfAbsent(key, row);
+            int[] bags = freed.computeIfAbsent(key, k -> new int[3]);
+            bags[0] += toInt(row[3]);
+            bags[1] += toInt(row[4]);
+            bags[2] += toInt(row[5]);
+        }
+
+        freed.forEach((key, bags) -> {
+            Object[] store = stores.get(key);
+            capacityLedgerService.release((String) store[1], (String) store[2], bags[0], bags[1], bags[2]);
+        });
+        return freed;
+    }
+
+    private synchronized List<ExpiryEntry> pollDue(LocalDateTime now) {
+        List<ExpiryEntry> due = new ArrayList<>();
+        while (due.size() < BATCH_SIZE && !queue.isEmpty() && queue.peek().expiresAt().isBefore(now)) {
+            ExpiryEntry entry = queue.poll();
+            queuedIds.remove(entry.reservationId());
+            due.add(entry);
+        }
+        return due;
+    }
+
+    private boolean enqueue(Long reservationId, LocalDateTime expiresAt) {
+        if (!queuedIds.add(reservationId)) {
+            return false;
+        }
+        queue.add(new ExpiryEntry(reservationId, expiresAt));
+        return true;
+    }
+
+    private synchronized int size() {
+        return queue.size();
+    }
+
+    private static int toInt(Object value) {
+        return value != null ? ((Number) value).intValue() : 0;
+    }
+
+    private record ExpiryEntry(Long reservationId, LocalDateTime expiresAt) {
+    }
+}
@@ -6,7 +6,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
+import java.util.Map;
 
 @Service
 public class ReservationSchedulerService {
@@ -14,48 +14,26 @@ public class ReservationSchedulerService {
     private static final Logger logger = LoggerFactory.getLogger(ReservationSchedulerService.class);
     
     @Autowired
-    private ReservationService reservationService;
+    private ReservationExpiryService reservationExpiryService;
     
     @Autowired
-    private PartnershipService partnershipService;
+    private CapacityLedgerService capacityLedgerService;
     
     /**
      * 백업용 만료 예약 일괄 정리 스케줄러
-     * 매 10분마다 실행되어 혹시 놓친 만료된 예약들을 정리합니다.
+     * 매 10분마다 실행되어 만료 엔진(ReservationExpiryService)이 놓친 만료된 예약들을 정리합니다.
+     * 매장별로 반복하지 않고 전체 매장을 청크 단위 UPDATE 한 번씩으로 처리합니다.
      */
     @Scheduled(fixedRate = 600000) // 10분마다 실행 (600,000ms)
     public void processAllExpiredReservations() {
         logger.info("백업용 만료 예약 일괄 정리 스케줄러 시작");
         
         try {
-            // 모든 승인된 제휴점 조회
-            List<org.example.travellight.entity.Partnership> partnerships = partnershipService.getAllPartnerships()
-                .stream()
-                .filter(p -> "APPROVED".equals(p.getStatus()))
-                .toList();
+            long startTime = System.currentTimeMillis();
+            Map<String, int[]> freedByStore = reservationExpiryService.expireAllOverdue();
             
-            int processedStores = 0;
-            int totalProcessedReservations = 0;
-            
-            // 각 매장별로 만료된 예약 정리
-            for (org.example.travellight.entity.Partnership partnership : partnerships) {
-                try {
-                    // 매장별 만료 예약 처리 (캐시 메커니즘 포함)
-                    reservationService.processExpiredReservationsForStore(
-                        partnership.getBusinessName(), 
-                        partnership.getAddress()
-                    );
-                    processedStores++;
-                    
-                } catch (Exception e) {
-                    logger.error("매장별 만료 예약 처리 중 오류: businessName={}, address={}", 
-                               partnership.getBusinessName(), partnership.getAddress(), e);
-                    // 개별 매장 처리 실패해도 전체 스케줄러는 계속 실행
-                }
-            }
-            
-            logger.info("백업용 만료 예약 일괄 정리 완료: 처리된매장수={}/{}", 
-                       processedStores, partnerships.size());
+            logger.info("백업용 만료 예약 일괄 정리 완료: 처리된매장수={} ({}ms)", 
+                       freedByStore.size(), System.currentTimeMillis() - startTime);
             
         } catch (Exception e) {
             logger.error("백업용 만료 예약 일괄 정리 스케줄러 실행 중 오류", e);
@@ -71,36 +49,35 @@ public class ReservationSchedulerService {
         logger.info("일일 정리 및 통계 수집 스케줄러 시작");
         
         try {
-            // 모든 승인된 제휴점에 대해 전체 정리
-            List<org.example.travellight.entity.Partnership> partnerships = partnershipService.getAllPartnerships()
-                .stream()
-                .filter(p -> "APPROVED".equals(p.getStatus()))
-                .toList();
+            Map<String, int[]> freedByStore = reservationExpiryService.expireAllOverdue();
             
-            int totalStores = partnerships.size();
-            int processedStores = 0;
-            int totalExpiredReservations = 0;
-            
-            for (org.example.travellight.entity.Partnership partnership : partnerships) {
-                try {
-                    // 캐시 우회하여 강제 처리 (일일 정리이므로)
-                    reservationService.processExpiredReservationsForStore(
-                        partnership.getBusinessName(), 
-                        partnership.getAddress()
-                    );
-                    processedStores++;
-                    
-                } catch (Exception e) {
-                    logger.error("일일 정리 중 매장별 처리 오류: businessName={}, address={}", 
-                               partnership.getBusinessName(), partnership.getAddress(), e);
-                }
+            int totalSmallBags = 0, totalMediumBags = 0, totalLargeBags = 0;
+            for (int[] bags : freedByStore.values()) {
+                totalSmallBags += bags[0];
+                totalMediumBags += bags[1];
+                totalLargeBags += bags[2];
             }
             
-            logger.info("일일 정리 및 통계 수집 완료: 전체매장수={}, 처리완료매장수={}", 
-                       totalStores, processedStores);
+            logger.info("일일 정리 및 통계 수집 완료: 처리된매장수={}, 복원용량(소/중/대)={}/{}/{}", 
+                       freedByStore.size(), totalSmallBags, totalMediumBags, totalLargeBags);
             
         } catch (Exception e) {
             logger.error("일일 정리 및 통계 수집 스케줄러 실행 중 오류", e);
         }
     }
-}
\ No newline at end of file
+    
+    /**
+     * 용량 장부 대사 스케줄러
+     * 매 5분마다 메모리 용량 장부를 DB 집계와 비교하여 어긋난 매장을 보정합니다.
+     */
+    @Scheduled(fixedRate = 300000, initialDelay = 300000) // 5분마다 실행 (300,000ms)
+    public void reconcileCapacityLedger() {
+        try {
+            long startTime = System.currentTimeMillis();
+            int corrected = capacityLedgerService.reconcile();
+            logger.info("용량 장부 대사 완료: 보정된매장수={} ({}ms)", corrected, System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            logger.error("용량 장부 대사 스케줄러 실행 중 오류", e);
+        }
+    }
+}
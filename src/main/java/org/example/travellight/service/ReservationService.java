@@ -1,6 +1,11 @@
 package org.example.travellight.service;
 
+import org.example.travellight.dto.ReservationCursorPageDto;
 import org.example.travellight.dto.ReservationDto;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -33,9 +38,17 @@ public interface ReservationService {
     // 전체 예약 조회 (관리자용)
     List<ReservationDto> getAllReservations();
     
+    // 전체 예약 커서 페이지 조회 (관리자용, 생성일시 내림차순)
+    ReservationCursorPageDto getAdminReservations(String status, String placeName, String placeAddress,
+                                                  LocalDate fromDate, LocalDate toDate,
+                                                  LocalDateTime cursorCreatedAt, Long cursorId, int size);
+    
     // 매장별 회원별 예약 통계 조회 (관리자용)
     Map<String, Object> getReservationStatsByStoreAndUser();
     
+    // 매장별 회원별 예약 통계를 NDJSON으로 스트리밍 (관리자용, topPerStore가 있으면 매장별 상위 N명만)
+    void streamReservationStatsByStoreAndUser(Integer topPerStore, OutputStream outputStream) throws IOException;
+    
     // 예약의 결제 ID 업데이트
     void updatePaymentId(String reservationNumber, String paymentId);
     
@@ -48,7 +61,4 @@ public interface ReservationService {
     
     // 예약 상태를 COMPLETED로 업데이트 (매장 용량 복원)
     void updateReservationStatusToCompleted(String reservationNumber);
-    
-    // 특정 매장의 만료된 예약들을 실시간으로 COMPLETED 상태로 변경
-    void processExpiredReservationsForStore(String businessName, String address);
 } 
\ No newline at end of file
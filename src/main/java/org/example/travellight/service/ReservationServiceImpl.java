@@ -1,7 +1,11 @@
 package org.example.travellight.service;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import org.example.travellight.dto.PartnershipCapacityDto;
+import org.example.travellight.dto.ReservationCursorPageDto;
 import org.example.travellight.dto.ReservationDto;
-import org.example.travellight.entity.Partnership;
 import org.example.travellight.entity.Reservation;
 import org.example.travellight.entity.User;
 import org.example.travellight.repository.ReservationRepository;
@@ -14,37 +18,46 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class ReservationServiceImpl implements ReservationService {
     
     private static final Logger logger = LoggerFactory.getLogger(ReservationServiceImpl.class);
     
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    
+    // 관리자 예약 목록 한 페이지 최대 건수
+    private static final int MAX_ADMIN_PAGE_SIZE = 100;
+    
     private final ReservationRepository reservationRepository;
     private final UserRepository userRepository;
-    private final EmailService emailService;
+    private final EmailOutboxService emailOutboxService;
     private final PartnershipService partnershipService;
-    
-    // 매장별 마지막 처리 시간을 저장하는 캐시 (중복 처리 방지)
-    private final Map<String, LocalDateTime> lastProcessedTimeCache = new ConcurrentHashMap<>();
+    private final CapacityLedgerService capacityLedgerService;
+    private final ReservationExpiryService reservationExpiryService;
     
     @Autowired
     public ReservationServiceImpl(ReservationRepository reservationRepository,
                                  UserRepository userRepository,
-                                 EmailService emailService,
-                                 PartnershipService partnershipService) {
+                                 EmailOutboxService emailOutboxService,
+                                 PartnershipService partnershipService,
+                                 CapacityLedgerService capacityLedgerService,
+                                 ReservationExpiryService reservationExpiryService) {
         this.reservationRepository = reservationRepository;
         this.userRepository = userRepository;
-        this.emailService = emailService;
+        this.emailOutboxService = emailOutboxService;
         this.partnershipService = partnershipService;
+        this.capacityLedgerService = capacityLedgerService;
+        this.reservationExpiryService = reservationExpiryService;
     }
     
     @Override
@@ -68,50 +81,36 @@ public class ReservationServiceImpl implements ReservationService {
         
         logger.info("사용자 조회 성공: {}", user);
         
-        // 매장 보관 용량 확인 (차감하지 않고 확인만)
+        // 요청된 용량
+        int requestedSmallBags = reservationDto.getSmallBags() != null ? reservationDto.getSmallBags() : 0;
+        int requestedMediumBags = reservationDto.getMediumBags() != null ? reservationDto.getMediumBags() : 0;
+        int requestedLargeBags = reservationDto.getLargeBags() != null ? reservationDto.getLargeBags() : 0;
+        
+        String status = reservationDto.getStatus() != null ? reservationDto.getStatus() : "RESERVED";
+        
+        // 매장 보관 용량 확보 (매장 단위로 확인과 차감을 원자적으로 수행, 트랜잭션 롤백 시 자동 복원)
         try {
-            Partnership partnership = partnershipService.findByBusinessNameAndAddress(
+            PartnershipCapacityDto partnership = partnershipService.findCapacityByBusinessNameAndAddress(
                 reservationDto.getPlaceName(), 
                 reservationDto.getPlaceAddress()
             );
             
-            if (partnership != null) {
-                // 현재 사용 중인 용량 계산
-                Map<String, Integer> currentUsage = partnershipService.getCurrentUsedCapacity(
-                    partnership.getBusinessName(), 
-                    partnership.getAddress()
+            if (!CapacityLedgerService.ACTIVE_STATUSES.contains(status)) {
+                logger.info("보관 용량을 차지하지 않는 예약 상태입니다: status={}", status);
+            } else if (partnership == null) {
+                capacityLedgerService.allocate(reservationDto.getPlaceName(), reservationDto.getPlaceAddress(),
+                    requestedSmallBags, requestedMediumBags, requestedLargeBags);
+            } else if (!capacityLedgerService.tryAllocate(
+                    partnership, requestedSmallBags, requestedMediumBags, requestedLargeBags)) {
+                Map<String, Integer> currentUsage = capacityLedgerService.getUsedCapacity(
+                    partnership.businessName(), 
+                    partnership.address()
                 );
-                
-                // 최대 보관 가능한 용량
-                int maxSmallBags = partnership.getSmallBagsAvailable() != null ? partnership.getSmallBagsAvailable() : 0;
-                int maxMediumBags = partnership.getMediumBagsAvailable() != null ? partnership.getMediumBagsAvailable() : 0;
-                int maxLargeBags = partnership.getLargeBagsAvailable() != null ? partnership.getLargeBagsAvailable() : 0;
-                
-                // 현재 사용 중인 용량
-                int usedSmallBags = currentUsage.get("smallBags");
-                int usedMediumBags = currentUsage.get("mediumBags");
-                int usedLargeBags = currentUsage.get("largeBags");
-                
-                // 요청된 용량
-                int requestedSmallBags = reservationDto.getSmallBags() != null ? reservationDto.getSmallBags() : 0;
-                int requestedMediumBags = reservationDto.getMediumBags() != null ? reservationDto.getMediumBags() : 0;
-                int requestedLargeBags = reservationDto.getLargeBags() != null ? reservationDto.getLargeBags() : 0;
-                
-                // 용량 초과 확인 (현재 사용량 + 요청량 > 최대 용량)
-                if ((usedSmallBags + requestedSmallBags) > maxSmallBags || 
-                    (usedMediumBags + requestedMediumBags) > maxMediumBags || 
-                    (usedLargeBags + requestedLargeBags) > maxLargeBags) {
-                    logger.error("보관 용량 초과: 요청(소형:{}, 중형:{}, 대형:{}) + 사용중(소형:{}, 중형:{}, 대형:{}) > 최대(소형:{}, 중형:{}, 대형:{})", 
-                        requestedSmallBags, requestedMediumBags, requestedLargeBags,
-                        usedSmallBags, usedMediumBags, usedLargeBags,
-                        maxSmallBags, maxMediumBags, maxLargeBags);
-                    throw new RuntimeException("보관 가능한 용량을 초과했습니다.");
-                }
-                
-                logger.info("보관 용량 확인 완료: 사용가능(소형:{}, 중형:{}, 대형:{})", 
-                    maxSmallBags - usedSmallBags - requestedSmallBags, 
-                    maxMediumBags - usedMediumBags - requestedMediumBags, 
-                    maxLargeBags - usedLargeBags - requestedLargeBags);
+                logger.error("보관 용량 초과: 요청(소형:{}, 중형:{}, 대형:{}) + 사용중(소형:{}, 중형:{}, 대형:{}) > 최대(소형:{}, 중형:{}, 대형:{})", 
+                    requestedSmallBags, requestedMediumBags, requestedLargeBags,
+                    currentUsage.get("smallBags"), currentUsage.get("mediumBags"), currentUsage.get("largeBags"),
+                    partnership.smallBagsAvailable(), partnership.mediumBagsAvailable(), partnership.largeBagsAvailable());
+                throw new RuntimeException("보관 가능한 용량을 초과했습니다.");
             }
         } catch (Exception e) {
             logger.error("매장 보관 용량 확인 중 오류: {}", e.getMessage(), e);
@@ -134,7 +133,7 @@ public class ReservationServiceImpl implements ReservationService {
                     .largeBags(reservationDto.getLargeBags())
                     .totalPrice(reservationDto.getTotalPrice())
                     .storageType(reservationDto.getStorageType())
-                    .status(reservationDto.getStatus() != null ? reservationDto.getStatus() : "RESERVED")
+                    .status(status)
                     .paymentId(reservationDto.getPaymentId())
                     .build();
             
@@ -143,22 +142,15 @@ public class ReservationServiceImpl implements ReservationService {
             Reservation savedReservation = reservationRepository.save(reservation);
             logger.info("예약 저장 성공: {}", savedReservation);
             
+            // 곧 만료될 예약이면 만료 대기열에 등록
+            reservationExpiryService.register(savedReservation);
+            
             // DTO 반환
             ReservationDto resultDto = mapToDto(savedReservation);
             
-            // 예약 확인 이메일 전송
-            try {
-                logger.info("예약이 성공적으로 생성되었습니다. 이메일 전송을 시도합니다. 이메일: {}", resultDto.getUserEmail());
-                boolean emailSent = emailService.sendReservationConfirmationEmail(resultDto);
-                if (emailSent) {
-                    logger.info("예약 확인 이메일이 {}에게 성공적으로 전송되었습니다.", resultDto.getUserEmail());
-                } else {
-                    logger.warn("예약 확인 이메일 전송이 실패했습니다. 사용자 이메일: {}", resultDto.getUserEmail());
-                }
-            } catch (Exception e) {
-                // 이메일 발송이 실패해도 예약은 성공적으로 처리되어야 하므로 여기서는 예외를 던지지 않습니다
-                logger.error("예약 확인 이메일 전송 중 오류 발생: {}", e.getMessage(), e);
-            }
+            // 예약 확인 이메일은 아웃박스에 기록하고 커밋 이후 별도 작업자가 전송 (SMTP 응답을 기다리지 않음)
+            emailOutboxService.enqueueReservationConfirmation(resultDto);
+            logger.info("예약이 성공적으로 생성되었습니다. 예약 확인 이메일 전송 예약: {}", resultDto.getUserEmail());
             
             return resultDto;
         } catch (Exception e) {
@@ -170,26 +162,22 @@ public class ReservationServiceImpl implements ReservationService {
     @Override
     @Transactional(readOnly = true)
     public ReservationDto getReservationById(Long id) {
-        Reservation reservation = reservationRepository.findById(id)
+        return reservationRepository.findDtoById(id)
                 .orElseThrow(() -> new RuntimeException("예약을 찾을 수 없습니다."));
-        return mapToDto(reservation);
     }
     
     @Override
     @Transactional(readOnly = true)
     public ReservationDto getReservationByNumber(String reservationNumber) {
-        Reservation reservation = reservationRepository.findByReservationNumber(reservationNumber)
+        return reservationRepository.findDtoByReservationNumber(reservationNumber)
                 .orElseThrow(() -> new RuntimeException("예약을 찾을 수 없습니다."));
-        return mapToDto(reservation);
     }
     
     @Override
     @Transactional(readOnly = true)
     public List<ReservationDto> getUserReservations(Long userId) {
-        List<Reservation> reservations = reservationRepository.findByUserId(userId);
-        return reservations.stream()
-                .map(this::mapToDto)
-                .collect(Collectors.toList());
+        // 예약과 사용자 정보를 DTO로 한 번에 조회 (예약별 사용자 지연 로딩 방지)
+        return reservationRepository.findDtosByUserId(userId);
     }
     
     @Override
@@ -206,6 +194,7 @@ public class ReservationServiceImpl implements ReservationService {
         // 예약 상태를 CANCELLED로 변경
         reservation.setStatus("CANCELLED");
         reservationRepository.save(reservation);
+        releaseCapacity(reservation);
         
         logger.info("예약 취소 완료: ID={}, 예약번호={}", reservation.getId(), reservation.getReservationNumber());
         
@@ -240,6 +229,7 @@ public class ReservationServiceImpl implements ReservationService {
         // 예약 상태를 CANCELLED로 변경
         reservation.setStatus("CANCELLED");
         reservationRepository.save(reservation);
+        releaseCapacity(reservation);
         
         logger.info("예약 취소 완료: 예약번호={}", reservationNumber);
         
@@ -264,30 +254,53 @@ public class ReservationServiceImpl implements ReservationService {
     @Transactional(readOnly = true)
     public List<ReservationDto> getReservationsByPlaceName(String placeName) {
         // 매장명으로 필터된 예약 조회
-        List<Reservation> reservations = reservationRepository.findByPlaceName(placeName);
-        return reservations.stream()
-            .map(this::mapToDto)
-            .collect(Collectors.toList());
+        return reservationRepository.findDtosByPlaceName(placeName);
     }
     
     @Override
     @Transactional(readOnly = true)
     public List<ReservationDto> getRecentReservations(int limit) {
         Pageable pageable = PageRequest.of(0, limit);
-        List<Reservation> reservations = reservationRepository.findRecentReservations(pageable);
-        return reservations.stream()
-            .map(this::mapToDto)
-            .collect(Collectors.toList());
+        return reservationRepository.findRecentDtos(pageable);
     }
     
     @Override
+    @Transactional(readOnly = true)
     public List<ReservationDto> getAllReservations() {
         logger.info("전체 예약 조회 시작");
-        List<Reservation> reservations = reservationRepository.findAll();
+        // 예약과 사용자 정보를 DTO로 한 번에 조회 (예약별 사용자 조회(N+1) 방지)
+        List<ReservationDto> reservations = reservationRepository.findAllDtos();
         logger.info("전체 예약 {}건 조회 완료", reservations.size());
-        return reservations.stream()
-            .map(this::mapToDto)
-            .collect(Collectors.toList());
+        return reservations;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public ReservationCursorPageDto getAdminReservations(String status, String placeName, String placeAddress,
+                                                         LocalDate fromDate, LocalDate toDate,
+                                                         LocalDateTime cursorCreatedAt, Long cursorId, int size) {
+        if ((cursorCreatedAt == null) != (cursorId == null)) {
+            throw new IllegalArgumentException("커서 생성일시와 ID는 함께 지정해야 합니다");
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_ADMIN_PAGE_SIZE));
+        
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<ReservationDto> reservations = reservationRepository.findAdminPageByCursor(
+            status, placeName, placeAddress, fromDate, toDate,
+            cursorCreatedAt, cursorId,
+            PageRequest.of(0, pageSize + 1));
+        
+        boolean hasNext = reservations.size() > pageSize;
+        List<ReservationDto> page = hasNext ? reservations.subList(0, pageSize) : reservations;
+        ReservationDto last = page.isEmpty() ? null : page.get(page.size() - 1);
+        
+        return ReservationCursorPageDto.builder()
+            .reservations(page)
+            .size(page.size())
+            .hasNext(hasNext)
+            .nextCursorCreatedAt(hasNext ? last.getCreatedAt() : null)
+            .nextCursorId(hasNext ? last.getId() : null)
+            .build();
     }
     
     @Override
@@ -296,46 +309,33 @@ public class ReservationServiceImpl implements ReservationService {
         logger.info("매장별 회원별 예약 통계 조회 시작");
         
         try {
-            // User를 fetch join하여 조회
-            List<Reservation> reservations = reservationRepository.findAllWithUser();
-            logger.info("예약 {}건 조회 완료 (User fetch join)", reservations.size());
+            // 매장/회원 조합별 건수를 DB에서 집계
+            List<Object[]> rows = reservationRepository.countByStoreAndUser();
+            logger.info("매장/회원 조합 {}건 집계 완료", rows.size());
             
             Map<String, Object> result = new java.util.HashMap<>();
             
-            // 매장별 회원별 예약 건수 집계
-            Map<String, Map<Long, Long>> storeUserStats = reservations.stream()
-                .filter(r -> r.getUser() != null) // null 체크
-                .collect(Collectors.groupingBy(
-                    r -> r.getPlaceName() + "|" + r.getPlaceAddress(),
-                    Collectors.groupingBy(
-                        r -> r.getUser().getId(),
-                        Collectors.counting()
-                    )
-                ));
-            
-            // 회원별 매장별 예약 건수 집계
-            Map<Long, Map<String, Long>> userStoreStats = reservations.stream()
-                .filter(r -> r.getUser() != null) // null 체크
-                .collect(Collectors.groupingBy(
-                    r -> r.getUser().getId(),
-                    Collectors.groupingBy(
-                        r -> r.getPlaceName() + "|" + r.getPlaceAddress(),
-                        Collectors.counting()
-                    )
-                ));
-            
-            // 회원 정보 포함
+            // 매장별 회원별 예약 건수
+            Map<String, Map<Long, Long>> storeUserStats = new java.util.HashMap<>();
+            // 회원별 매장별 예약 건수
+            Map<Long, Map<String, Long>> userStoreStats = new java.util.HashMap<>();
+            // 회원 정보
             Map<Long, Map<String, String>> userInfo = new java.util.HashMap<>();
-            reservations.stream()
-                .map(Reservation::getUser)
-                .filter(user -> user != null) // null 체크
-                .distinct()
-                .forEach(user -> {
+            
+            for (Object[] row : rows) {
+                String storeKey = row[0] + "|" + row[1];
+                Long userId = (Long) row[2];
+                Long count = (Long) row[5];
+                
+                storeUserStats.computeIfAbsent(storeKey, k -> new java.util.HashMap<>()).put(userId, count);
+                userStoreStats.computeIfAbsent(userId, k -> new java.util.HashMap<>()).put(storeKey, count);
+                userInfo.computeIfAbsent(userId, k -> {
                     Map<String, String> info = new java.util.HashMap<>();
-                    info.put("name", user.getName() != null ? user.getName() : "알 수 없음");
-                    info.put("email", user.getEmail() != null ? user.getEmail() : "");
-                    userInfo.put(user.getId(), info);
+                    info.put("name", row[3] != null ? (String) row[3] : "알 수 없음");
+                    info.put("email", row[4] != null ? (String) row[4] : "");
+                    return info;
                 });
+            }
             
             result.put("storeUserStats", storeUserStats);
             result.put("userStoreStats", userStoreStats);
@@ -351,6 +351,48 @@ public class ReservationServiceImpl implements ReservationService {
         }
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public void streamReservationStatsByStoreAndUser(Integer topPerStore, OutputStream outputStream) throws IOException {
+        logger.info("매장별 회원별 예약 통계 스트리밍 시작: topPerStore={}", topPerStore);
+        
+        int written = 0;
+        try (Stream<Object[]> rows = reservationRepository.streamCountByStoreAndUser();
+             JsonGenerator generator = JSON_FACTORY.createGenerator(outputStream)) {
+            generator.setRootValueSeparator(new SerializedString("\n"));
+            
+            String currentStore = null;
+            int rankInStore = 0;
+            for (Object[] row : (Iterable<Object[]>) rows::iterator) {
+                String storeKey = row[0] + "|" + row[1];
+                if (!storeKey.equals(currentStore)) {
+                    currentStore = storeKey;
+                    rankInStore = 0;
+                }
+                if (topPerStore != null && ++rankInStore > topPerStore) {
+                    continue;
+                }
+                
+                generator.writeStartObject();
+                generator.writeStringField("placeName", (String) row[0]);
+                generator.writeStringField("placeAddress", (String) row[1]);
+                generator.writeNumberField("userId", (Long) row[2]);
+                generator.writeStringField("userName", row[3] != null ? (String) row[3] : "알 수 없음");
+                generator.writeStringField("userEmail", row[4] != null ? (String) row[4] : "");
+                generator.writeNumberField("reservationCount", (Long) row[5]);
+                generator.writeEndObject();
+                
+                // 일정 건수마다 클라이언트로 내보내 서버 버퍼가 쌓이지 않도록 함
+                if (++written % 500 == 0) {
+                    generator.flush();
+                }
+            }
+            generator.writeRaw('\n');
+        }
+        
+        logger.info("매장별 회원별 예약 통계 스트리밍 완료: {}건", written);
+    }
+    
     @Override
     @Transactional
     public void updatePaymentId(String reservationNumber, String paymentId) {
@@ -449,97 +491,23 @@ public class ReservationServiceImpl implements ReservationService {
         reservationRepository.save(reservation);
         
         // 매장의 보관 용량 복원
-        try {
-            Partnership partnership = partnershipService.findByBusinessNameAndAddress(
-                reservation.getPlaceName(), 
-                reservation.getPlaceAddress()
-            );
-            
-            if (partnership != null) {
-                logger.info("매장 보관 용량 복원 시작: businessName={}, address={}, 복원량(소형:{}, 중형:{}, 대형:{})", 
-                           partnership.getBusinessName(), partnership.getAddress(),
-                           reservation.getSmallBags(), reservation.getMediumBags(), reservation.getLargeBags());
-                
-                // Partnership 엔티티의 용량은 최대 보관 가능 수량을 의미하므로 
-                // 실제로는 현재 사용량만 감소시키면 됩니다.
-                // PartnershipService의 getCurrentUsedCapacity 메서드에서 
-                // RESERVED 상태의 예약만 계산하도록 되어있다면 자동으로 용량이 복원됩니다.
-                
-                logger.info("매장 보관 용량 복원 완료: reservationNumber={}", reservationNumber);
-            } else {
-                logger.warn("매장 정보를 찾을 수 없습니다: placeName={}, address={}", 
-                           reservation.getPlaceName(), reservation.getPlaceAddress());
-            }
-        } catch (Exception e) {
-            logger.error("매장 보관 용량 복원 중 오류 발생: reservationNumber={}", reservationNumber, e);
-            // 용량 복원 실패해도 예약 상태 변경은 유지
-        }
+        releaseCapacity(reservation);
+        logger.info("매장 보관 용량 복원: placeName={}, address={}, 복원량(소형:{}, 중형:{}, 대형:{})", 
+                   reservation.getPlaceName(), reservation.getPlaceAddress(),
+                   reservation.getSmallBags(), reservation.getMediumBags(), reservation.getLargeBags());
         
         logger.info("예약 상태 완료 처리 완료: reservationNumber={}", reservationNumber);
     }
     
-    @Override
-    @Transactional
-    public void processExpiredReservationsForStore(String businessName, String address) {
-        // 캐시 키 생성 (매장명 + 주소)
-        String cacheKey = businessName + "|" + address;
-        
-        // 중복 처리 방지: 2분 이내에 같은 매장에 대해 처리했다면 스킵
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime lastProcessed = lastProcessedTimeCache.get(cacheKey);
-        
-        if (lastProcessed != null && now.minusMinutes(2).isBefore(lastProcessed)) {
-            logger.info("매장 만료 예약 처리 스킵 (최근 처리됨): businessName={}, address={}, 마지막처리={}", 
-                       businessName, address, lastProcessed);
-            return;
-        }
-        
-        logger.info("매장별 만료 예약 처리 시작: businessName={}, address={}", businessName, address);
-        
-        try {
-            // 1. 먼저 만료된 예약들 조회 (처리 전 로깅용)
-            List<Reservation> expiredReservations = reservationRepository.findExpiredReservationsForStore(businessName, address);
-            
-            if (expiredReservations.isEmpty()) {
-                logger.info("처리할 만료 예약 없음: businessName={}, address={}", businessName, address);
-                // 캐시 업데이트
-                lastProcessedTimeCache.put(cacheKey, now);
-                return;
-            }
-            
-            // 2. 만료된 예약 정보 로깅
-            logger.info("처리 대상 만료 예약 수: {} 건, businessName={}, address={}", 
-                       expiredReservations.size(), businessName, address);
-            
-            int totalSmallBags = 0, totalMediumBags = 0, totalLargeBags = 0;
-            for (Reservation reservation : expiredReservations) {
-                totalSmallBags += (reservation.getSmallBags() != null ? reservation.getSmallBags() : 0);
-                totalMediumBags += (reservation.getMediumBags() != null ? reservation.getMediumBags() : 0);
-                totalLargeBags += (reservation.getLargeBags() != null ? reservation.getLargeBags() : 0);
-                
-                logger.debug("만료 예약 처리 대상: 예약번호={}, 종료일={}, 종료시간={}, 가방수(소/중/대)={}/{}/{}", 
-                           reservation.getReservationNumber(), 
-                           reservation.getStorageEndDate(), 
-                           reservation.getStorageEndTime(),
-                           reservation.getSmallBags(), 
-                           reservation.getMediumBags(), 
-                           reservation.getLargeBags());
-            }
-            
-            // 3. 배치로 상태 업데이트
-            int updatedCount = reservationRepository.updateExpiredReservationsForStoreToCompleted(businessName, address);
-            
-            logger.info("매장별 만료 예약 처리 완료: businessName={}, address={}, 처리된예약수={}, 복원용량(소/중/대)={}/{}/{}", 
-                       businessName, address, updatedCount, totalSmallBags, totalMediumBags, totalLargeBags);
-            
-            // 4. 캐시 업데이트
-            lastProcessedTimeCache.put(cacheKey, now);
-            
-        } catch (Exception e) {
-            logger.error("매장별 만료 예약 처리 중 오류 발생: businessName={}, address={}", 
-                        businessName, address, e);
-            throw new RuntimeException("만료 예약 처리 중 오류가 발생했습니다: " + e.getMessage(), e);
-        }
+    // 예약이 차지하던 보관 용량을 장부에 복원하는 헬퍼 메소드
+    private void releaseCapacity(Reservation reservation) {
+        capacityLedgerService.release(
+            reservation.getPlaceName(),
+            reservation.getPlaceAddress(),
+            reservation.getSmallBags() != null ? reservation.getSmallBags() : 0,
+            reservation.getMediumBags() != null ? reservation.getMediumBags() : 0,
+            reservation.getLargeBags() != null ? reservation.getLargeBags() : 0
+        );
     }
     
     // 엔티티를 DTO로 변환하는 헬퍼 메소드
@@ -0,0 +1,129 @@
+package org.example.travellight.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.travellight.dto.ReviewDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 비로그인 리뷰 목록 캐시
+ * 로그인하지 않은 방문자에게는 모두 같은 리뷰 페이지가 보이므로, 제휴점/정렬/페이지별로 완성된 응답을 메모리에 보관합니다.
+ * 리뷰 작성/수정/삭제, 관리자 답변 등으로 제휴점의 리뷰가 바뀌면 커밋 이후 해당 제휴점의 캐시 버전을 올려 무효화합니다.
+ */
+@Service
+@Slf4j
+public class ReviewPageCache {
+
+    // 캐시 항목 유지 시간 (무효화 누락 대비)
+    private static final long TTL_MILLIS = 60_000;
+
+    // 최대 캐시 항목 수
+    private static final int MAX_ENTRIES = 2000;
+
+    // 이보다 큰 페이지는 캐시하지 않음 (관리자 대량 조회 등)
+    private static final int MAX_CACHEABLE_PAGE_SIZE = 100;
+
+    private static final String RECENT_KEY = "recent";
+
+    // 캐시 키 → 페이지
+    private final Map<String, CachedPage> pages = new ConcurrentHashMap<>();
+
+    // 제휴점 키(매장명|주소) 또는 최근 리뷰 키별 버전 (무효화 시 증가)
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    /**
+     * 제휴점 리뷰 페이지 조회 (없으면 loader로 생성 후 보관)
+     */
+    public Page<ReviewDto.ReviewResponse> getPlacePage(String placeName, String placeAddress, String sortBy,
+                                                      Pageable pageable,
+                                                      Supplier<Page<ReviewDto.ReviewResponse>> loader) {
+        return get(placeKeyOf(placeName, placeAddress), sortBy, pageable, loader);
+    }
+
+    /**
+     * 최근 리뷰 페이지 조회 (없으면 loader로 생성 후 보관)
+     */
+    public Page<ReviewDto.ReviewResponse> getRecentPage(Pageable pageable,
+                                                       Supplier<Page<ReviewDto.ReviewResponse>> loader) {
+        return get(RECENT_KEY, "latest", pageable, loader);
+    }
+
+    /**
+     * 제휴점 리뷰 페이지와 최근 리뷰 페이지를 커밋 이후 무효화
+     */
+    public void invalidatePlace(String placeName, String placeAddress) {
+        String placeKey = placeKeyOf(placeName, placeAddress);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateNow(placeKey);
+                }
+            });
+        } else {
+            invalidateNow(placeKey);
+        }
+    }
+
+    private Page<ReviewDto.ReviewResponse> get(String scope, String sortBy, Pageable pageable,
+                                               Supplier<Page<ReviewDto.ReviewResponse>> loader) {
+        if (pageable.getPageSize() > MAX_CACHEABLE_PAGE_SIZE) {
+            return loader.get();
+        }
+
+        // 조회 전에 버전을 읽어두므로, 조회 도중 무효화되면 이전 버전 키로 저장되어 다시 쓰이지 않음
+        long version = versionOf(scope).get();
+        String key = scope + "|v" + version + "|" + sortBy + "|" + pageable.getPageNumber() + "|"
+                + pageable.getPageSize() + "|" + pageable.getSort();
+
+        long now = System.currentTimeMillis();
+        CachedPage cached = pages.get(key);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.page();
+        }
+
+        Page<ReviewDto.ReviewResponse> page = loader.get();
+        if (pages.size() >= MAX_ENTRIES) {
+            evictExpired(now);
+        }
+        pages.put(key, new CachedPage(page, now + TTL_MILLIS));
+        return page;
+    }
+
+    private void invalidateNow(String placeKey) {
+        versionOf(placeKey).incrementAndGet();
+        versionOf(RECENT_KEY).incrementAndGet();
+
+        // 이전 버전 항목은 더 이상 조회되지 않으므로 바로 정리
+        String placePrefix = placeKey + "|v";
+        String recentPrefix = RECENT_KEY + "|v";
+        pages.keySet().removeIf(key -> key.startsWith(placePrefix) || key.startsWith(recentPrefix));
+        log.debug("리뷰 페이지 캐시 무효화: {}", placeKey);
+    }
+
+    private void evictExpired(long now) {
+        pages.values().removeIf(cached -> cached.expiresAt() <= now);
+        if (pages.size() >= MAX_ENTRIES) {
+            pages.clear();
+        }
+    }
+
+    private AtomicLong versionOf(String scope) {
+        return versions.computeIfAbsent(scope, k -> new AtomicLong());
+    }
+
+    private static String placeKeyOf(String placeName, String placeAddress) {
+        return "place|" + placeName + "|" + placeAddress;
+    }
+
+    private record CachedPage(Page<ReviewDto.ReviewResponse> page, long expiresAt) {
+    }
+}
@@ -0,0 +1,388 @@
+package org.example.travellight.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.travellight.entity.ReviewPhoto;
+import org.example.travellight.exception.CustomException;
+import org.example.travellight.repository.ReviewPhotoRepository;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 리뷰 사진 저장과 이미지 변환
+ * 업로드 파일은 여러 장을 동시에 디스크로 스트리밍 저장하고, 화면용/썸네일 JPEG 변환은 요청 스레드 밖에서 처리합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReviewPhotoStorageService {
+
+    public static final String UPLOAD_DIR = "uploads/reviews/";
+    private static final String DISPLAY_DIR = UPLOAD_DIR + "display/";
+    private static final String THUMBNAIL_DIR = UPLOAD_DIR + "thumbnails/";
+
+    // 변환 이미지의 긴 변 최대 길이 (px)
+    private static final int DISPLAY_MAX_SIZE = 1280;
+    private static final int THUMBNAIL_MAX_SIZE = 320;
+    private static final float JPEG_QUALITY = 0.85f;
+
+    private static final long MAX_FILE_SIZE = 10 * 1024 * 1024; // 10MB
+    private static final Set<String> ALLOWED_EXTENSIONS = Set.of(".jpg", ".jpeg", ".png", ".gif", ".webp", ".heic");
+
+    private final ReviewPhotoRepository reviewPhotoRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 업로드 파일 저장용 (디스크 I/O 대기)
+    private final ExecutorService ioExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    // 이미지 변환용 (CPU 코어 수만큼만 동시에 디코딩하여 메모리 사용량 제한)
+    private final ExecutorService imageExecutor = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors());
+
+    @PreDestroy
+    public void shutdown() {
+        ioExecutor.shutdown();
+        imageExecutor.shutdown();
+    }
+
+    /**
+     * 업로드 파일을 동시에 저장하고 이미지 변환을 예약
+     *
+     * @return 저장된 파일명 (업로드 순서와 동일)
+     */
+    public List<String> store(List<MultipartFile> files) {
+        createDirectory(UPLOAD_DIR);
+
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (MultipartFile file : files) {
+            if (file.isEmpty()) continue;
+            validate(file);
+            futures.add(CompletableFuture.supplyAsync(() -> storeOne(file), ioExecutor));
+        }
+
+        List<String> storedFilenames = new ArrayList<>();
+        try {
+            for (CompletableFuture<String> future : futures) {
+                storedFilenames.add(future.join());
+            }
+        } catch (CompletionException e) {
+            // 이미 저장된 파일은 정리
+            futures.stream().filter(f -> f.isDone() && !f.isCompletedExceptionally())
+                    .forEach(f -> deleteQuietly(Paths.get(UPLOAD_DIR, f.join())));
+            if (e.getCause() instanceof CustomException customException) {
+                throw customException;
+            }
+            throw new CustomException("파일 업로드에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+
+        storedFilenames.forEach(filename -> imageExecutor.execute(() -> createVariants(filename)));
+        return storedFilenames;
+    }
+
+    /**
+     * 저장된 파일 정보(파일 크기, MIME, 가로/세로, 변환 이미지 경로)를 사진 엔티티에 채움
+     * 변환이 아직 끝나지 않았다면 변환 완료 시 DB에 직접 반영됩니다.
+     * 변환이 사진 등록 커밋보다 먼저 끝나 반영할 행이 없었던 경우를 위해 커밋 이후 한 번 더 반영합니다.
+     */
+    public void describe(ReviewPhoto photo) {
+        Path original = Paths.get(UPLOAD_DIR, photo.getFilename());
+        try {
+            photo.setFileSize(Files.size(original));
+            photo.setMimeType(Files.probeContentType(original));
+        } catch (IOException e) {
+            log.warn("사진 파일 정보 조회 실패: {}", original, e);
+        }
+
+        int[] dimensions = readDimensions(original);
+        if (dimensions != null) {
+            photo.setWidth(dimensions[0]);
+            photo.setHeight(dimensions[1]);
+        }
+
+        Path display = displayPathOf(photo.getFilename());
+        Path thumbnail = thumbnailPathOf(photo.getFilename());
+        if (Files.exists(display) && Files.exists(thumbnail)) {
+            photo.setDisplayPath(display.toString().replace('\\', '/'));
+            photo.setThumbnailPath(thumbnail.toString().replace('\\', '/'));
+        } else {
+            String filename = photo.getFilename();
+            afterCommit(() -> ioExecutor.execute(() -> {
+                try {
+                    if (Files.exists(displayPathOf(filename)) && Files.exists(thumbnailPathOf(filename))) {
+                        applyVariants(filename);
+                    }
+                } catch (Exception e) {
+                    log.error("리뷰 사진 변환 결과 반영 실패: {}", filename, e);
+                }
+            }));
+        }
+    }
+
+    /**
+     * 원본과 변환 이미지 파일 삭제
+     */
+    public void delete(String filename) {
+        deleteQuietly(Paths.get(UPLOAD_DIR, filename));
+        deleteQuietly(displayPathOf(filename));
+        deleteQuietly(thumbnailPathOf(filename));
+    }
+
+    /**
+     * 트랜잭션 커밋 이후 원본과 변환 이미지 파일을 백그라운드에서 삭제
+     * 롤백되면 파일은 그대로 남습니다.
+     */
+    public void deleteAfterCommit(Collection<String> filenames) {
+        if (filenames.isEmpty()) {
+            return;
+        }
+        List<String> targets = List.copyOf(filenames);
+        afterCommit(() -> ioExecutor.execute(() -> targets.forEach(this::delete)));
+    }
+
+    private String storeOne(MultipartFile file) {
+        String newFilename = System.currentTimeMillis() + "_" + UUID.randomUUID() + extensionOf(file.getOriginalFilename());
+        Path filePath = Paths.get(UPLOAD_DIR, newFilename);
+        try {
+            // 메모리에 올리지 않고 디스크로 바로 저장
+            file.transferTo(filePath);
+            return newFilename;
+        } catch (IOException e) {
+            log.error("파일 업로드 실패: {}", file.getOriginalFilename(), e);
+            throw new CustomException("파일 업로드에 실패했습니다: " + file.getOriginalFilename(), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 화면용/썸네일 JPEG 생성 후 이미 등록된 사진이면 DB에 반영
+     */
+    private void createVariants(String filename) {
+        Path original = Paths.get(UPLOAD_DIR, filename);
+        try {
+            BufferedImage source = readScaled(original, DISPLAY_MAX_SIZE);
+            if (source == null) {
+                log.warn("이미지를 읽을 수 없어 변환하지 않습니다: {}", original);
+                return;
+            }
+
+            createDirectory(DISPLAY_DIR);
+            createDirectory(THUMBNAIL_DIR);
+            BufferedImage display = resize(source, DISPLAY_MAX_SIZE);
+            writeJpeg(display, displayPathOf(filename));
+            writeJpeg(resize(display, THUMBNAIL_MAX_SIZE), thumbnailPathOf(filename));
+
+            if (applyVariants(filename) == 0) {
+                // 아직 리뷰에 등록되지 않은 사진 (등록 시 describe 또는 커밋 이후 반영에서 채워짐)
+                log.debug("리뷰 사진 변환 완료 (등록 전): {}", filename);
+                return;
+            }
+            log.debug("리뷰 사진 변환 완료: {}", filename);
+        } catch (Exception e) {
+            // 변환 이미지가 없으면 원본이 그대로 사용됨
+            log.error("리뷰 사진 변환 실패: {}", filename, e);
+        }
+    }
+
+    /**
+     * 변환 이미지 경로와 원본 가로/세로를 등록된 사진 행에 반영
+     *
+     * @return 반영된 행 수 (사진이 아직 커밋되지 않았으면 0)
+     */
+    private int applyVariants(String filename) {
+        int[] dimensions = readDimensions(Paths.get(UPLOAD_DIR, filename));
+        Integer updated = transactionTemplate.execute(status -> reviewPhotoRepository.updateVariants(filename,
+                displayPathOf(filename).toString().replace('\\', '/'),
+                thumbnailPathOf(filename).toString().replace('\\', '/'),
+                dimensions != null ? dimensions[0] : null,
+                dimensions != null ? dimensions[1] : null));
+        return updated != null ? updated : 0;
+    }
+
+    /**
+     * 트랜잭션 커밋 이후 실행 (트랜잭션이 없으면 바로 실행, 작업자가 종료되었으면 건너뜀)
+     */
+    private void afterCommit(Runnable action) {
+        Runnable guarded = () -> {
+            try {
+                action.run();
+            } catch (RejectedExecutionException e) {
+                log.warn("파일 작업자가 종료되어 커밋 이후 작업을 건너뜁니다.");
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    guarded.run();
+                }
+            });
+        } else {
+            guarded.run();
+        }
+    }
+
+    /**
+     * 원본이 목표 크기보다 훨씬 크면 디코딩 단계에서 줄여 읽음 (메모리/CPU 절약)
+     */
+    private BufferedImage readScaled(Path path, int targetSize) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(path.toFile())) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int longSide = Math.max(reader.getWidth(0), reader.getHeight(0));
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, longSide / (targetSize * 2));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private int[] readDimensions(Path path) {
+        try (ImageInputStream input = ImageIO.createImageInputStream(path.toFile())) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                return new int[]{reader.getWidth(0), reader.getHeight(0)};
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static BufferedImage resize(BufferedImage source, int maxSize) {
+        double scale = Math.min(1.0, (double) maxSize / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        // JPEG로 저장하므로 투명 영역은 흰색 배경으로 채움
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = resized.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setColor(Color.WHITE);
+        g2d.fillRect(0, 0, width, height);
+        g2d.drawImage(source, 0, 0, width, height, null);
+        g2d.dispose();
+        return resized;
+    }
+
+    private static void writeJpeg(BufferedImage image, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(JPEG_QUALITY);
+
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(temp.toFile())) {
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        // 변환 중인 파일이 노출되지 않도록 완성 후 이동
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static void validate(MultipartFile file) {
+        if (file.getSize() > MAX_FILE_SIZE) {
+            throw new CustomException("파일 크기가 너무 큽니다. 최대 10MB까지 업로드 가능합니다.", HttpStatus.BAD_REQUEST);
+        }
+        String contentType = file.getContentType();
+        if (contentType != null && !contentType.startsWith("image/")) {
+            throw new CustomException("이미지 파일만 업로드 가능합니다.", HttpStatus.BAD_REQUEST);
+        }
+        if (!ALLOWED_EXTENSIONS.contains(extensionOf(file.getOriginalFilename()))) {
+            throw new CustomException("지원하지 않는 이미지 형식입니다.", HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    private static String extensionOf(String originalFilename) {
+        if (originalFilename == null || originalFilename.lastIndexOf('.') == -1) {
+            return ".jpg";
+        }
+        return originalFilename.substring(originalFilename.lastIndexOf('.')).toLowerCase(Locale.ROOT);
+    }
+
+    private static Path displayPathOf(String filename) {
+        return Paths.get(DISPLAY_DIR, baseNameOf(filename) + ".jpg");
+    }
+
+    private static Path thumbnailPathOf(String filename) {
+        return Paths.get(THUMBNAIL_DIR, baseNameOf(filename) + ".jpg");
+    }
+
+    private static String baseNameOf(String filename) {
+        int dot = filename.lastIndexOf('.');
+        return dot == -1 ? filename : filename.substring(0, dot);
+    }
+
+    private static void createDirectory(String directory) {
+        try {
+            Files.createDirectories(Paths.get(directory));
+        } catch (IOException e) {
+            throw new CustomException("파일 업로드 디렉토리 생성에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("파일 삭제 실패: {}", path, e);
+        }
+    }
+}
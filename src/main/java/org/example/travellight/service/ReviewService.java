@@ -7,6 +7,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ReviewService {
@@ -60,18 +61,30 @@ public interface ReviewService {
     // 예약 ID로 리뷰 삭제 (테스트용)
     boolean deleteReviewByReservationId(Long reservationId);
     
+    // 여러 예약의 리뷰 일괄 삭제 (관리자 정리용, 삭제된 리뷰 수 반환)
+    int deleteReviewsByReservationIds(Collection<Long> reservationIds);
+    
+    // 리뷰 전문 검색 (관련도 순, 키셋 페이지네이션)
+    ReviewDto.ReviewSearchPage searchReviews(String query, Double cursorScore, Long cursorId, int size, User currentUser);
+    
     // 예약 ID로 리뷰 조회
     ReviewDto.ReviewResponse getReviewByReservationId(Long reservationId);
     
     // 상위 평점 제휴점 조회 (추천 시스템용)
     List<ReviewDto.PlaceReviewSummary> getTopRatedPlaces(int limit);
     
+    // 지정한 위치 반경 안의 상위 평점 제휴점 조회
+    List<ReviewDto.PlaceReviewSummary> getTopRatedPlacesNear(double latitude, double longitude, double radiusKm, int limit);
+    
     // 최근 리뷰 조회 (관리자용)
     Page<ReviewDto.ReviewResponse> getRecentReviews(Pageable pageable);
     
     // 신고가 많은 리뷰 조회 (관리자용)
     List<ReviewDto.ReviewResponse> getReviewsWithHighReports(int threshold);
     
+    // 신고 리뷰 검토 대기열 (신고 속도 순, 관리자용)
+    Page<ReviewDto.ModerationQueueItem> getModerationQueue(int minReports, Pageable pageable);
+    
     // 특정 사용자의 모든 리뷰 조회 (관리자용)
     Page<ReviewDto.ReviewResponse> getAdminUserReviews(Long userId, Pageable pageable);
 }
@@ -6,18 +6,17 @@ import org.example.travellight.dto.ReviewDto;
 import org.example.travellight.entity.*;
 import org.example.travellight.exception.CustomException;
 import org.example.travellight.repository.*;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -34,80 +33,68 @@ public class ReviewServiceImpl implements ReviewService {
     private final ReviewReportRepository reviewReportRepository;
     private final ReservationRepository reservationRepository;
     private final UserRepository userRepository;
+    private final PlaceReviewStatsService placeReviewStatsService;
+    private final PlaceRankingService placeRankingService;
+    private final ReviewPhotoStorageService reviewPhotoStorageService;
+    private final ReviewPageCache reviewPageCache;
+    private final ReviewModerationRepository reviewModerationRepository;
     
     // 파일 업로드 경로 (실제 운영환경에서는 S3 등 클라우드 스토리지 사용 권장)
-    private static final String UPLOAD_DIR = "uploads/reviews/";
+    private static final String UPLOAD_DIR = ReviewPhotoStorageService.UPLOAD_DIR;
+    
+    // 리뷰 검색 한 페이지 최대 크기
+    private static final int MAX_SEARCH_PAGE_SIZE = 50;
     
     @Override
     public ReviewDto.ReviewResponse createReview(ReviewDto.ReviewRequest request, User user) {
-        log.info("리뷰 작성 요청 - 사용자: {}, 예약 ID: {}", user.getId(), request.getReservationId());
-        
-        // 예약 정보 조회 및 검증
-        Reservation reservation = reservationRepository.findById(request.getReservationId())
+        // 예약 소유자, 상태, 기존 리뷰 여부를 한 번에 조회
+        Object[] check = reservationRepository.findReviewWriteCheck(request.getReservationId()).stream().findFirst()
                 .orElseThrow(() -> new CustomException("예약을 찾을 수 없습니다.", HttpStatus.NOT_FOUND));
         
-        log.info("예약 정보 조회 성공 - 예약 ID: {}, 상태: {}, 사용자 ID: {}", 
-                reservation.getId(), reservation.getStatus(), reservation.getUser().getId());
-        
         // 예약 소유자 확인
-        if (!reservation.getUser().getId().equals(user.getId())) {
-            log.error("예약 소유자 불일치 - 예약 사용자 ID: {}, 현재 사용자 ID: {}", 
-                    reservation.getUser().getId(), user.getId());
+        if (!user.getId().equals(check[0])) {
+            log.warn("예약 소유자 불일치 - 예약 ID: {}, 현재 사용자 ID: {}", request.getReservationId(), user.getId());
             throw new CustomException("본인의 예약에만 리뷰를 작성할 수 있습니다.", HttpStatus.FORBIDDEN);
         }
         
-        // 리뷰 작성 가능 상태 확인
-        boolean canWrite = reservation.canWriteReview();
-        log.info("리뷰 작성 가능 여부: {}, 예약 상태: {}", canWrite, reservation.getStatus());
-        if (!canWrite) {
+        // 리뷰 작성 가능 상태 확인 (완료된 예약)
+        if (!"COMPLETED".equals(check[1])) {
             throw new CustomException("완료된 예약에만 리뷰를 작성할 수 있습니다.", HttpStatus.BAD_REQUEST);
         }
         
         // 이미 리뷰가 작성되었는지 확인
-        boolean reviewExists = reviewRepository.existsByReservationIdAndStatus(request.getReservationId(), ReviewStatus.ACTIVE);
-        log.info("기존 리뷰 존재 여부: {}", reviewExists);
-        if (reviewExists) {
+        if (Boolean.TRUE.equals(check[4])) {
             throw new CustomException("이미 리뷰를 작성한 예약입니다.", HttpStatus.CONFLICT);
         }
         
-        // 리뷰 생성
-        log.info("리뷰 엔티티 생성 중 - 평점: {}, 제목: {}, 내용: {}", 
-                request.getRating(), request.getTitle(), request.getContent());
-        
+        // 예약은 연관관계 설정에만 쓰이므로 다시 조회하지 않음
         Review review = Review.builder()
                 .user(user)
-                .reservation(reservation)
-                .placeName(reservation.getPlaceName())
-                .placeAddress(reservation.getPlaceAddress())
+                .reservation(reservationRepository.getReferenceById(request.getReservationId()))
+                .placeName((String) check[2])
+                .placeAddress((String) check[3])
                 .rating(request.getRating())
                 .title(request.getTitle())
                 .content(request.getContent())
                 .status(ReviewStatus.ACTIVE)
                 .build();
         
-        log.info("리뷰 저장 시작...");
         Review savedReview = reviewRepository.save(review);
-        log.info("리뷰 저장 성공! - 리뷰 ID: {}, 데이터베이스 ID: {}", savedReview.getId(), savedReview.getId());
+        placeReviewStatsService.reviewAdded(savedReview);
+        invalidateCachedPages(savedReview);
         
         // 사진 처리
+        List<ReviewPhoto> photos = Collections.emptyList();
         if (request.getPhotoFilenames() != null && !request.getPhotoFilenames().isEmpty()) {
-            log.info("사진 처리 시작 - 사진 개수: {}", request.getPhotoFilenames().size());
-            saveReviewPhotos(savedReview, request.getPhotoFilenames());
-        } else {
-            log.info("첨부된 사진 없음");
+            photos = saveReviewPhotos(savedReview, request.getPhotoFilenames());
         }
         
-        log.info("리뷰 작성 완료! - 리뷰 ID: {}", savedReview.getId());
-        
-        // 저장된 리뷰 다시 조회해서 확인
-        Optional<Review> checkReview = reviewRepository.findById(savedReview.getId());
-        if (checkReview.isPresent()) {
-            log.info("저장 확인 성공 - 리뷰 ID: {}, 상태: {}", checkReview.get().getId(), checkReview.get().getStatus());
-        } else {
-            log.error("저장 확인 실패 - 리뷰가 데이터베이스에서 조회되지 않음");
-        }
+        log.info("리뷰 작성 완료 - 리뷰 ID: {}, 예약 ID: {}, 사용자: {}, 사진: {}장",
+                savedReview.getId(), request.getReservationId(), user.getId(), photos.size());
         
-        return convertToResponse(savedReview, user);
+        // 방금 저장한 내용으로 응답 (작성자 본인, 도움이 됨/신고 없음)
+        // 예약 프록시를 초기화하지 않도록 검증 조회에서 받은 예약번호 사용
+        return convertToResponse(savedReview, (String) check[5], user, photos, false, false);
     }
     
     @Override
@@ -128,6 +115,7 @@ public class ReviewServiceImpl implements ReviewService {
         }
         
         // 리뷰 정보 업데이트
+        Integer previousRating = review.getRating();
         review.setRating(request.getRating());
         review.setTitle(request.getTitle());
         review.setContent(request.getContent());
@@ -136,6 +124,10 @@ public class ReviewServiceImpl implements ReviewService {
         updateReviewPhotos(review, request.getKeepPhotoIds(), request.getNewPhotoFilenames());
         
         Review savedReview = reviewRepository.save(review);
+        if (savedReview.getStatus() == ReviewStatus.ACTIVE) {
+            placeReviewStatsService.ratingChanged(savedReview, previousRating);
+        }
+        invalidateCachedPages(savedReview);
         
         log.info("리뷰 수정 완료 - 리뷰 ID: {}", reviewId);
         return convertToResponse(savedReview, user);
@@ -154,8 +146,12 @@ public class ReviewServiceImpl implements ReviewService {
         }
         
         // 소프트 삭제
+        ReviewStatus previousStatus = review.getStatus();
         review.setStatus(ReviewStatus.DELETED);
         reviewRepository.save(review);
+        placeReviewStatsService.statusChanged(review, previousStatus);
+        invalidateCachedPages(review);
+        reviewModerationRepository.resolve(reviewId, LocalDateTime.now());
         
         log.info("리뷰 삭제 완료 - 리뷰 ID: {}", reviewId);
     }
@@ -181,17 +177,22 @@ public class ReviewServiceImpl implements ReviewService {
     @Transactional(readOnly = true)
     public Page<ReviewDto.ReviewResponse> getPlaceReviews(String placeName, String placeAddress,
                                                          String sortBy, Pageable pageable, User currentUser) {
-        Page<Review> reviews;
-        
-        if ("rating".equals(sortBy)) {
-            reviews = reviewRepository.findByPlaceNameAndPlaceAddressAndStatusOrderByRatingDescCreatedAtDesc(
-                    placeName, placeAddress, ReviewStatus.ACTIVE, pageable);
-        } else {
-            reviews = reviewRepository.findByPlaceNameAndPlaceAddressAndStatusOrderByCreatedAtDesc(
-                    placeName, placeAddress, ReviewStatus.ACTIVE, pageable);
-        }
+        String sort = "rating".equals(sortBy) ? "rating" : "latest";
+        
+        // 비로그인 기준 페이지는 캐시에서 가져오고, 로그인 사용자는 본인 관련 표시만 덧씌움
+        Page<ReviewDto.ReviewResponse> page = reviewPageCache.getPlacePage(placeName, placeAddress, sort, pageable, () -> {
+            Page<Review> reviews;
+            if ("rating".equals(sort)) {
+                reviews = reviewRepository.findByPlaceNameAndPlaceAddressAndStatusOrderByRatingDescCreatedAtDesc(
+                        placeName, placeAddress, ReviewStatus.ACTIVE, pageable);
+            } else {
+                reviews = reviewRepository.findByPlaceNameAndPlaceAddressAndStatusOrderByCreatedAtDesc(
+                        placeName, placeAddress, ReviewStatus.ACTIVE, pageable);
+            }
+            return convertToResponsePage(reviews, null);
+        });
         
-        return reviews.map(review -> convertToResponse(review, currentUser));
+        return overlayViewerFlags(page, currentUser);
     }
     
     @Override
@@ -200,64 +201,53 @@ public class ReviewServiceImpl implements ReviewService {
         Page<Review> reviews = reviewRepository.findByUserAndStatusOrderByCreatedAtDesc(
                 user, ReviewStatus.ACTIVE, pageable);
         
-        return reviews.map(review -> convertToResponse(review, user));
+        return convertToResponsePage(reviews, user);
     }
     
     @Override
     @Transactional(readOnly = true)
     public ReviewDto.ReviewSummary getPlaceReviewSummary(String placeName, String placeAddress) {
-        Double averageRating = reviewRepository.getAverageRatingByPlace(placeName, placeAddress, ReviewStatus.ACTIVE);
-        Long totalReviews = reviewRepository.countByPlaceNameAndPlaceAddressAndStatus(placeName, placeAddress, ReviewStatus.ACTIVE);
-        List<Object[]> ratingDistribution = reviewRepository.getRatingDistributionByPlace(placeName, placeAddress, ReviewStatus.ACTIVE);
-        
-        // 평점별 분포 계산
-        Map<Integer, Long> distributionMap = ratingDistribution.stream()
-                .collect(Collectors.toMap(
-                        arr -> (Integer) arr[0],
-                        arr -> (Long) arr[1]
-                ));
+        // 제휴점 리뷰 집계 한 행으로 평균, 총 개수, 평점 분포 계산
+        PlaceReviewStats stats = placeReviewStatsService.findByPlace(placeName, placeAddress)
+                .orElseGet(PlaceReviewStats::new);
         
         ReviewDto.RatingDistribution distribution = ReviewDto.RatingDistribution.builder()
-                .rating5Count(distributionMap.getOrDefault(5, 0L))
-                .rating4Count(distributionMap.getOrDefault(4, 0L))
-                .rating3Count(distributionMap.getOrDefault(3, 0L))
-                .rating2Count(distributionMap.getOrDefault(2, 0L))
-                .rating1Count(distributionMap.getOrDefault(1, 0L))
+                .rating5Count(stats.getRating5Count())
+                .rating4Count(stats.getRating4Count())
+                .rating3Count(stats.getRating3Count())
+                .rating2Count(stats.getRating2Count())
+                .rating1Count(stats.getRating1Count())
                 .build();
         
         return ReviewDto.ReviewSummary.builder()
                 .placeName(placeName)
                 .placeAddress(placeAddress)
-                .averageRating(averageRating != null ? Math.round(averageRating * 10.0) / 10.0 : 0.0)
-                .totalReviews(totalReviews)
+                .averageRating(Math.round(stats.getAverageRating() * 10.0) / 10.0)
+                .totalReviews(stats.getReviewCount())
                 .ratingDistribution(distribution)
                 .build();
     }
     
     @Override
     public boolean toggleHelpful(Long reviewId, User user) {
-        Review review = reviewRepository.findById(reviewId)
+        Object[] place = reviewRepository.findPlaceById(reviewId).stream().findFirst()
                 .orElseThrow(() -> new CustomException("리뷰를 찾을 수 없습니다.", HttpStatus.NOT_FOUND));
         
-        Optional<ReviewHelpful> existingHelpful = reviewHelpfulRepository.findByReviewAndUser(review, user);
+        // 도움이 됨 수가 바뀌므로 캐시된 목록 무효화
+        reviewPageCache.invalidatePlace((String) place[0], (String) place[1]);
         
-        if (existingHelpful.isPresent()) {
+        // 카운트는 리뷰 엔티티를 읽어 저장하지 않고 DB에서 원자적으로 증감 (동시 투표 시 갱신 유실 방지)
+        if (reviewHelpfulRepository.deleteByReviewIdAndUserId(reviewId, user.getId()) > 0) {
             // 이미 도움이 됨을 눌렀다면 취소
-            reviewHelpfulRepository.delete(existingHelpful.get());
-            review.setHelpfulCount(Math.max(0, review.getHelpfulCount() - 1));
-            reviewRepository.save(review);
+            reviewRepository.addHelpfulCount(reviewId, -1);
             return false;
-        } else {
-            // 도움이 됨 추가
-            ReviewHelpful helpful = ReviewHelpful.builder()
-                    .review(review)
-                    .user(user)
-                    .build();
-            reviewHelpfulRepository.save(helpful);
-            review.incrementHelpfulCount();
-            reviewRepository.save(review);
-            return true;
         }
+        
+        // 도움이 됨 추가 (같은 사용자의 중복 요청은 (review_id, user_id) 유니크 제약으로 한 건만 기록)
+        if (reviewHelpfulRepository.insertIfAbsent(reviewId, user.getId()) > 0) {
+            reviewRepository.addHelpfulCount(reviewId, 1);
+        }
+        return true;
     }
     
     @Override
@@ -283,11 +273,19 @@ public class ReviewServiceImpl implements ReviewService {
                 .status(ReportStatus.PENDING)
                 .build();
         
-        reviewReportRepository.save(report);
+        try {
+            reviewReportRepository.save(report);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 사용자의 동시 신고는 (review_id, user_id) 유니크 제약으로 한 건만 기록
+            throw new CustomException("이미 신고한 리뷰입니다.", HttpStatus.CONFLICT);
+        }
         
-        // 리뷰의 신고 카운트 증가
-        review.incrementReportCount();
-        reviewRepository.save(review);
+        // 리뷰의 신고 카운트 증가 및 검토 대기열 반영
+        reviewRepository.addReportCount(reviewId, 1);
+        reviewModerationRepository.recordReport(reviewId, LocalDateTime.now());
+        
+        // 캐시된 리뷰 페이지에 신고 수가 포함되므로 무효화
+        reviewPageCache.invalidatePlace(review.getPlaceName(), review.getPlaceAddress());
         
         log.info("리뷰 신고 접수 - 리뷰 ID: {}, 신고자: {}, 사유: {}", reviewId, user.getId(), request.getReason());
     }
@@ -299,6 +297,7 @@ public class ReviewServiceImpl implements ReviewService {
         
         review.addAdminReply(request.getAdminReply(), admin);
         Review savedReview = reviewRepository.save(review);
+        invalidateCachedPages(savedReview);
         
         log.info("관리자 답변 추가 - 리뷰 ID: {}, 관리자: {}", reviewId, admin.getId());
         return convertToResponse(savedReview, admin);
@@ -310,49 +309,24 @@ public class ReviewServiceImpl implements ReviewService {
                 .orElseThrow(() -> new CustomException("리뷰를 찾을 수 없습니다.", HttpStatus.NOT_FOUND));
         
         ReviewStatus newStatus = ReviewStatus.valueOf(status.toUpperCase());
+        ReviewStatus previousStatus = review.getStatus();
         review.setStatus(newStatus);
         Review savedReview = reviewRepository.save(review);
+        placeReviewStatsService.statusChanged(savedReview, previousStatus);
+        invalidateCachedPages(savedReview);
+        
+        // 관리자가 상태를 정했으므로 검토 대기열에서 제외
+        reviewModerationRepository.resolve(reviewId, LocalDateTime.now());
         
         log.info("리뷰 상태 변경 - 리뷰 ID: {}, 새 상태: {}, 관리자: {}", reviewId, newStatus, admin.getId());
         return convertToResponse(savedReview, admin);
     }
     
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<String> uploadReviewPhotos(List<MultipartFile> files) {
-        List<String> uploadedFilenames = new ArrayList<>();
-        
-        // 업로드 디렉토리 생성
-        try {
-            Path uploadPath = Paths.get(UPLOAD_DIR);
-            if (!Files.exists(uploadPath)) {
-                Files.createDirectories(uploadPath);
-            }
-        } catch (IOException e) {
-            throw new CustomException("파일 업로드 디렉토리 생성에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
-        }
-        
-        for (MultipartFile file : files) {
-            if (file.isEmpty()) continue;
-            
-            try {
-                // 파일명 생성 (중복 방지를 위해 현재 시간 추가)
-                String originalFilename = file.getOriginalFilename();
-                String extension = originalFilename.substring(originalFilename.lastIndexOf("."));
-                String newFilename = System.currentTimeMillis() + "_" + UUID.randomUUID().toString() + extension;
-                
-                // 파일 저장
-                Path filePath = Paths.get(UPLOAD_DIR, newFilename);
-                Files.copy(file.getInputStream(), filePath);
-                
-                uploadedFilenames.add(newFilename);
-                
-            } catch (IOException e) {
-                log.error("파일 업로드 실패: {}", file.getOriginalFilename(), e);
-                throw new CustomException("파일 업로드에 실패했습니다: " + file.getOriginalFilename(), HttpStatus.INTERNAL_SERVER_ERROR);
-            }
-        }
-        
-        return uploadedFilenames;
+        // 파일은 동시에 저장하고, 화면용/썸네일 변환은 응답 이후 백그라운드에서 처리
+        return reviewPhotoStorageService.store(files);
     }
     
     @Override
@@ -365,16 +339,42 @@ public class ReviewServiceImpl implements ReviewService {
             throw new CustomException("사진을 삭제할 권한이 없습니다.", HttpStatus.FORBIDDEN);
         }
         
-        // 파일 삭제
-        try {
-            Path filePath = Paths.get(photo.getFilePath());
-            Files.deleteIfExists(filePath);
-        } catch (IOException e) {
-            log.warn("파일 삭제 실패: {}", photo.getFilePath(), e);
-        }
+        // 파일 삭제 (원본 및 변환 이미지, 커밋 이후)
+        reviewPhotoStorageService.deleteAfterCommit(List.of(photo.getFilename()));
         
         // DB에서 삭제
         reviewPhotoRepository.delete(photo);
+        invalidateCachedPages(photo.getReview());
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public ReviewDto.ReviewSearchPage searchReviews(String query, Double cursorScore, Long cursorId, int size,
+                                                    User currentUser) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_SEARCH_PAGE_SIZE);
+        if (query == null || query.isBlank()) {
+            return ReviewDto.ReviewSearchPage.builder().reviews(List.of()).size(pageSize).build();
+        }
+        
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<Object[]> rows = reviewRepository.searchRankedIds(query.trim(), ReviewStatus.ACTIVE.name(),
+                cursorScore, cursorId, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) {
+            rows = rows.subList(0, pageSize);
+        }
+        
+        List<Review> reviews = findInRankOrder(rows);
+        ReviewDto.ReviewSearchPage.ReviewSearchPageBuilder page = ReviewDto.ReviewSearchPage.builder()
+                .reviews(convertToResponses(reviews, currentUser))
+                .size(pageSize)
+                .hasNext(hasNext);
+        if (hasNext) {
+            Object[] last = rows.get(rows.size() - 1);
+            page.nextCursorScore(((Number) last[1]).doubleValue())
+                .nextCursorId(((Number) last[0]).longValue());
+        }
+        return page.build();
     }
     
     @Override
@@ -395,33 +395,60 @@ public class ReviewServiceImpl implements ReviewService {
             return false;
         }
         
+        // 활성 리뷰만 삭제 (숨김/삭제 처리된 리뷰는 그대로 둠)
         Review review = reviewOpt.get();
+        deleteReviews(List.of(review));
         
-        // 리뷰 사진들 먼저 삭제
-        List<ReviewPhoto> photos = reviewPhotoRepository.findByReviewId(review.getId());
-        for (ReviewPhoto photo : photos) {
-            try {
-                // 파일 시스템에서 파일 삭제
-                Path filePath = Paths.get(UPLOAD_DIR + photo.getFilename());
-                Files.deleteIfExists(filePath);
-            } catch (IOException e) {
-                log.warn("사진 파일 삭제 실패: {}", photo.getFilename(), e);
-            }
+        log.info("리뷰 삭제 완료: 리뷰 ID {}", review.getId());
+        
+        return true;
+    }
+    
+    @Override
+    @Transactional
+    public int deleteReviewsByReservationIds(Collection<Long> reservationIds) {
+        if (reservationIds == null || reservationIds.isEmpty()) {
+            return 0;
         }
-        reviewPhotoRepository.deleteByReviewId(review.getId());
         
-        // 도움이 됨 기록 삭제
-        reviewHelpfulRepository.deleteByReview(review);
+        // 관리자 정리용이므로 상태와 관계없이 모두 삭제
+        List<Review> reviews = reviewRepository.findByReservationIdIn(reservationIds);
+        if (reviews.isEmpty()) {
+            return 0;
+        }
         
-        // 신고 기록 삭제
-        reviewReportRepository.deleteByReview(review);
+        int deleted = deleteReviews(reviews);
+        log.info("리뷰 일괄 삭제 요청 처리 - 예약: {}건, 리뷰: {}건", reservationIds.size(), deleted);
+        return deleted;
+    }
+    
+    /**
+     * 리뷰와 사진/도움이 됨/신고/검토 기록을 일괄 삭제하고 집계와 캐시에 반영
+     */
+    private int deleteReviews(List<Review> reviews) {
+        // 활성 리뷰만 집계에서 제외 (숨김/삭제 리뷰는 이미 제외되어 있음), 제휴점별로 한 번씩 반영
+        List<Review> activeReviews = reviews.stream()
+                .filter(review -> review.getStatus() == ReviewStatus.ACTIVE)
+                .toList();
+        if (!activeReviews.isEmpty()) {
+            placeReviewStatsService.reviewsRemoved(activeReviews);
+        }
+        reviews.forEach(this::invalidateCachedPages);
         
-        // 리뷰 삭제
-        reviewRepository.delete(review);
+        List<Long> reviewIds = reviews.stream().map(Review::getId).toList();
         
-        log.info("리뷰 삭제 완료: 리뷰 ID {}", review.getId());
+        // 사진 파일은 커밋 이후 백그라운드에서 정리
+        reviewPhotoStorageService.deleteAfterCommit(reviewPhotoRepository.findFilenamesByReviewIdIn(reviewIds));
         
-        return true;
+        // 연관 기록을 먼저 일괄 삭제한 뒤 리뷰 삭제
+        int photos = reviewPhotoRepository.deleteByReviewIdIn(reviewIds);
+        reviewModerationRepository.deleteByReviewIdIn(reviewIds);
+        int helpfuls = reviewHelpfulRepository.deleteByReviewIdIn(reviewIds);
+        int reports = reviewReportRepository.deleteByReviewIdIn(reviewIds);
+        int deleted = reviewRepository.deleteByIdIn(reviewIds);
+        
+        log.info("리뷰 삭제 완료 - 리뷰: {}건, 사진: {}건, 도움이 됨: {}건, 신고: {}건", deleted, photos, helpfuls, reports);
+        return deleted;
     }
     
     @Override
@@ -466,44 +493,62 @@ public class ReviewServiceImpl implements ReviewService {
     }
     
     @Override
-    @Transactional(readOnly = true)
     public List<ReviewDto.PlaceReviewSummary> getTopRatedPlaces(int limit) {
-        List<Object[]> results = reviewRepository.findTopRatedPlaces(ReviewStatus.ACTIVE, 1); // 최소 1개 리뷰 필요
-        
-        return results.stream()
-                .limit(limit)
-                .map(arr -> {
-                    String placeName = (String) arr[0];
-                    String placeAddress = (String) arr[1];
-                    Double avgRating = (Double) arr[2];
-                    Long reviewCount = (Long) arr[3];
-                    Double recommendationScore = (Double) arr[4]; // DB에서 계산된 추천 점수
-                    
-                    return ReviewDto.PlaceReviewSummary.builder()
-                            .placeName(placeName)
-                            .placeAddress(placeAddress)
-                            .averageRating(Math.round(avgRating * 10.0) / 10.0)
-                            .reviewCount(reviewCount)
-                            .recommendationScore(Math.round(recommendationScore * 10.0) / 10.0)
-                            .build();
-                })
-                .collect(Collectors.toList());
+        // 메모리에 정렬된 순위에서 상위 limit개만 조회 (최소 1개 리뷰 필요)
+        return toPlaceReviewSummaries(placeRankingService.getTopRated(limit));
+    }
+    
+    @Override
+    public List<ReviewDto.PlaceReviewSummary> getTopRatedPlacesNear(double latitude, double longitude,
+                                                                    double radiusKm, int limit) {
+        return toPlaceReviewSummaries(placeRankingService.getTopRatedNear(latitude, longitude, radiusKm, limit));
     }
     
     @Override
     @Transactional(readOnly = true)
     public Page<ReviewDto.ReviewResponse> getRecentReviews(Pageable pageable) {
-        Page<Review> reviews = reviewRepository.findByStatusOrderByCreatedAtDesc(ReviewStatus.ACTIVE, pageable);
-        return reviews.map(review -> convertToResponse(review, null));
+        return reviewPageCache.getRecentPage(pageable, () -> convertToResponsePage(
+                reviewRepository.findByStatusOrderByCreatedAtDesc(ReviewStatus.ACTIVE, pageable), null));
     }
     
     @Override
     @Transactional(readOnly = true)
     public List<ReviewDto.ReviewResponse> getReviewsWithHighReports(int threshold) {
+        // 신고 수 순 전체 목록 (신고 속도 순 검토 대기열은 getModerationQueue 사용)
         List<Review> reviews = reviewRepository.findReviewsWithHighReports(threshold, ReviewStatus.ACTIVE);
-        return reviews.stream()
-                .map(review -> convertToResponse(review, null))
-                .collect(Collectors.toList());
+        return convertToResponses(reviews, null);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ReviewDto.ModerationQueueItem> getModerationQueue(int minReports, Pageable pageable) {
+        int threshold = Math.max(minReports, 1);
+        List<Object[]> rows = reviewModerationRepository.findPendingByVelocity(
+                threshold, LocalDateTime.now(), pageable.getPageSize(), pageable.getOffset());
+        
+        // 페이지의 리뷰, 사진을 한 번에 조회
+        Map<Long, ReviewDto.ReviewResponse> responsesById = convertToResponses(findInRankOrder(rows), null).stream()
+                .collect(Collectors.toMap(ReviewDto.ReviewResponse::getId, response -> response));
+        
+        List<ReviewDto.ModerationQueueItem> items = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            ReviewDto.ReviewResponse review = responsesById.get(((Number) row[0]).longValue());
+            if (review == null) {
+                continue;
+            }
+            items.add(ReviewDto.ModerationQueueItem.builder()
+                    .review(review)
+                    .reportCount(((Number) row[1]).intValue())
+                    .reportsPerHour(((Number) row[2]).doubleValue())
+                    .firstReportedAt(toLocalDateTime(row[3]))
+                    .lastReportedAt(toLocalDateTime(row[4]))
+                    .build());
+        }
+        
+        long total = pageable.getOffset() == 0 && rows.size() < pageable.getPageSize()
+                ? rows.size()
+                : reviewModerationRepository.countPending(threshold);
+        return new PageImpl<>(items, pageable, total);
     }
     
     @Override
@@ -519,12 +564,62 @@ public class ReviewServiceImpl implements ReviewService {
         
         log.info("사용자 ID {}의 리뷰 {}건 조회 완료", userId, reviews.getTotalElements());
         
-        return reviews.map(review -> convertToResponse(review, null));
+        return convertToResponsePage(reviews, null);
     }
     
     // Private helper methods
     
-    private void saveReviewPhotos(Review review, List<String> photoFilenames) {
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof java.sql.Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+    
+    private void invalidateCachedPages(Review review) {
+        reviewPageCache.invalidatePlace(review.getPlaceName(), review.getPlaceAddress());
+    }
+    
+    /**
+     * 캐시된 비로그인 기준 페이지에 로그인 사용자의 도움이 됨/신고/수정 가능 여부를 덧씌움
+     * 캐시된 응답은 공유되므로 복사본을 만들어 반환합니다.
+     */
+    private Page<ReviewDto.ReviewResponse> overlayViewerFlags(Page<ReviewDto.ReviewResponse> page, User currentUser) {
+        if (currentUser == null || page.isEmpty()) {
+            return page;
+        }
+        
+        List<Long> reviewIds = page.getContent().stream().map(ReviewDto.ReviewResponse::getId).toList();
+        Set<Long> helpfulReviewIds = new HashSet<>(
+                reviewHelpfulRepository.findReviewIdsByUserIdAndReviewIdIn(currentUser.getId(), reviewIds));
+        Set<Long> reportedReviewIds = new HashSet<>(
+                reviewReportRepository.findReviewIdsByUserIdAndReviewIdIn(currentUser.getId(), reviewIds));
+        
+        List<ReviewDto.ReviewResponse> responses = page.getContent().stream()
+                .map(response -> response.toBuilder()
+                        .isHelpfulByCurrentUser(helpfulReviewIds.contains(response.getId()))
+                        .isReportedByCurrentUser(reportedReviewIds.contains(response.getId()))
+                        .canEdit(response.getUser() != null && currentUser.getId().equals(response.getUser().getId()))
+                        .build())
+                .toList();
+        return new PageImpl<>(responses, page.getPageable(), page.getTotalElements());
+    }
+    
+    /**
+     * 조회 결과 행(첫 번째 값이 리뷰 ID) 순서대로 리뷰 조회 (검색, 검토 대기열)
+     */
+    private List<Review> findInRankOrder(List<Object[]> rankedRows) {
+        if (rankedRows.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = rankedRows.stream().map(row -> ((Number) row[0]).longValue()).toList();
+        Map<Long, Review> reviewsById = reviewRepository.findWithUserByIdIn(ids).stream()
+                .collect(Collectors.toMap(Review::getId, review -> review));
+        return ids.stream().map(reviewsById::get).filter(Objects::nonNull).toList();
+    }
+    
+    private List<ReviewPhoto> saveReviewPhotos(Review review, List<String> photoFilenames) {
+        List<ReviewPhoto> photos = new ArrayList<>(photoFilenames.size());
         for (int i = 0; i < photoFilenames.size(); i++) {
             String filename = photoFilenames.get(i);
             
@@ -535,9 +630,10 @@ public class ReviewServiceImpl implements ReviewService {
                     .filePath(UPLOAD_DIR + filename)
                     .sortOrder(i + 1)
                     .build();
-            
-            reviewPhotoRepository.save(photo);
+            reviewPhotoStorageService.describe(photo);
+            photos.add(photo);
         }
+        return reviewPhotoRepository.saveAll(photos);
     }
     
     private void updateReviewPhotos(Review review, List<Long> keepPhotoIds, List<String> newPhotoFilenames) {
@@ -546,13 +642,8 @@ public class ReviewServiceImpl implements ReviewService {
         
         for (ReviewPhoto photo : existingPhotos) {
             if (keepPhotoIds == null || !keepPhotoIds.contains(photo.getId())) {
-                // 파일 삭제
-                try {
-                    Path filePath = Paths.get(photo.getFilePath());
-                    Files.deleteIfExists(filePath);
-                } catch (IOException e) {
-                    log.warn("파일 삭제 실패: {}", photo.getFilePath(), e);
-                }
+                // 파일 삭제 (원본 및 변환 이미지, 커밋 이후)
+                reviewPhotoStorageService.deleteAfterCommit(List.of(photo.getFilename()));
                 reviewPhotoRepository.delete(photo);
             }
         }
@@ -561,6 +652,7 @@ public class ReviewServiceImpl implements ReviewService {
         if (newPhotoFilenames != null && !newPhotoFilenames.isEmpty()) {
             int nextSortOrder = reviewPhotoRepository.findByReviewIdOrderBySortOrderAsc(review.getId()).size() + 1;
             
+            List<ReviewPhoto> photos = new ArrayList<>(newPhotoFilenames.size());
             for (String filename : newPhotoFilenames) {
                 ReviewPhoto photo = ReviewPhoto.builder()
                         .review(review)
@@ -569,15 +661,75 @@ public class ReviewServiceImpl implements ReviewService {
                         .filePath(UPLOAD_DIR + filename)
                         .sortOrder(nextSortOrder++)
                         .build();
-                
-                reviewPhotoRepository.save(photo);
+                reviewPhotoStorageService.describe(photo);
+                photos.add(photo);
             }
+            reviewPhotoRepository.saveAll(photos);
         }
     }
     
+    private List<ReviewDto.PlaceReviewSummary> toPlaceReviewSummaries(List<PlaceRankingService.RankedPlace> places) {
+        return places.stream()
+                .map(place -> ReviewDto.PlaceReviewSummary.builder()
+                        .placeName(place.placeName())
+                        .placeAddress(place.placeAddress())
+                        .averageRating(Math.round(place.averageRating() * 10.0) / 10.0)
+                        .reviewCount(place.reviewCount())
+                        .recommendationScore(Math.round(place.recommendationScore() * 10.0) / 10.0)
+                        .build())
+                .collect(Collectors.toList());
+    }
+    
     private ReviewDto.ReviewResponse convertToResponse(Review review, User currentUser) {
+        return convertToResponses(List.of(review), currentUser).get(0);
+    }
+    
+    private Page<ReviewDto.ReviewResponse> convertToResponsePage(Page<Review> reviews, User currentUser) {
+        List<ReviewDto.ReviewResponse> responses = convertToResponses(reviews.getContent(), currentUser);
+        return new PageImpl<>(responses, reviews.getPageable(), reviews.getTotalElements());
+    }
+    
+    /**
+     * 리뷰 목록을 응답으로 변환
+     * 사진과 현재 사용자의 도움이 됨/신고 여부는 리뷰 ID 목록으로 각각 한 번씩만 조회하므로
+     * 페이지 크기와 관계없이 쿼리 수가 일정합니다.
+     */
+    private List<ReviewDto.ReviewResponse> convertToResponses(List<Review> reviews, User currentUser) {
+        if (reviews.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        List<Long> reviewIds = reviews.stream().map(Review::getId).collect(Collectors.toList());
+        
+        // 리뷰별 사진 (정렬 순서대로)
+        Map<Long, List<ReviewPhoto>> photosByReview = reviewPhotoRepository.findByReviewIdIn(reviewIds).stream()
+                .collect(Collectors.groupingBy(photo -> photo.getReview().getId()));
+        
+        // 현재 사용자가 도움이 됨을 누른/신고한 리뷰
+        Set<Long> helpfulReviewIds = Collections.emptySet();
+        Set<Long> reportedReviewIds = Collections.emptySet();
+        if (currentUser != null) {
+            helpfulReviewIds = new HashSet<>(
+                    reviewHelpfulRepository.findReviewIdsByUserIdAndReviewIdIn(currentUser.getId(), reviewIds));
+            reportedReviewIds = new HashSet<>(
+                    reviewReportRepository.findReviewIdsByUserIdAndReviewIdIn(currentUser.getId(), reviewIds));
+        }
+        
+        List<ReviewDto.ReviewResponse> responses = new ArrayList<>(reviews.size());
+        for (Review review : reviews) {
+            responses.add(convertToResponse(review, review.getReservation().getReservationNumber(), currentUser,
+                    photosByReview.getOrDefault(review.getId(), Collections.emptyList()),
+                    helpfulReviewIds.contains(review.getId()),
+                    reportedReviewIds.contains(review.getId())));
+        }
+        return responses;
+    }
+    
+    private ReviewDto.ReviewResponse convertToResponse(Review review, String reservationNumber, User currentUser,
+                                                       List<ReviewPhoto> photos, boolean helpfulByCurrentUser,
+                                                       boolean reportedByCurrentUser) {
         // 사진 정보 변환
-        List<ReviewDto.ReviewPhotoResponse> photoResponses = review.getPhotos().stream()
+        List<ReviewDto.ReviewPhotoResponse> photoResponses = photos.stream()
                 .map(photo -> ReviewDto.ReviewPhotoResponse.builder()
                         .id(photo.getId())
                         .filename(photo.getFilename())
@@ -585,6 +737,10 @@ public class ReviewServiceImpl implements ReviewService {
                         .filePath(photo.getFilePath())
                         .fileSize(photo.getFileSize())
                         .mimeType(photo.getMimeType())
+                        .width(photo.getWidth())
+                        .height(photo.getHeight())
+                        .displayPath(photo.getDisplayPath())
+                        .thumbnailPath(photo.getThumbnailPath())
                         .sortOrder(photo.getSortOrder())
                         .uploadedAt(photo.getUploadedAt())
                         .build())
@@ -611,15 +767,15 @@ public class ReviewServiceImpl implements ReviewService {
         Boolean canEdit = false;
         
         if (currentUser != null) {
-            isHelpfulByCurrentUser = reviewHelpfulRepository.existsByReviewAndUser(review, currentUser);
-            isReportedByCurrentUser = reviewReportRepository.existsByReviewAndUser(review, currentUser);
+            isHelpfulByCurrentUser = helpfulByCurrentUser;
+            isReportedByCurrentUser = reportedByCurrentUser;
             canEdit = review.getUser().getId().equals(currentUser.getId());
         }
         
         return ReviewDto.ReviewResponse.builder()
                 .id(review.getId())
                 .reservationId(review.getReservation().getId())
-                .reservationNumber(review.getReservation().getReservationNumber())
+                .reservationNumber(reservationNumber)
                 .placeName(review.getPlaceName())
                 .placeAddress(review.getPlaceAddress())
                 .rating(review.getRating())
@@ -27,13 +27,16 @@ public class StorageItemServiceImpl implements StorageItemService {
     private final StorageItemRepository storageItemRepository;
     private final ReservationRepository reservationRepository;
     private final StorageFileService storageFileService;
+    private final CapacityLedgerService capacityLedgerService;
 
     public StorageItemServiceImpl(StorageItemRepository storageItemRepository,
                                  ReservationRepository reservationRepository,
-                                 StorageFileService storageFileService) {
+                                 StorageFileService storageFileService,
+                                 CapacityLedgerService capacityLedgerService) {
         this.storageItemRepository = storageItemRepository;
         this.reservationRepository = reservationRepository;
         this.storageFileService = storageFileService;
+        this.capacityLedgerService = capacityLedgerService;
     }
 
     @Override
@@ -131,9 +134,21 @@ public class StorageItemServiceImpl implements StorageItemService {
             StorageItem savedStorageItem = storageItemRepository.save(storageItem);
 
             // 예약 상태를 COMPLETED로 변경
+            boolean wasActive = CapacityLedgerService.ACTIVE_STATUSES.contains(reservation.getStatus());
             reservation.setStatus("COMPLETED");
             reservationRepository.save(reservation);
 
+            // 출고된 짐의 보관 용량 복원
+            if (wasActive) {
+                capacityLedgerService.release(
+                        reservation.getPlaceName(),
+                        reservation.getPlaceAddress(),
+                        reservation.getSmallBags() != null ? reservation.getSmallBags() : 0,
+                        reservation.getMediumBags() != null ? reservation.getMediumBags() : 0,
+                        reservation.getLargeBags() != null ? reservation.getLargeBags() : 0
+                );
+            }
+
             logger.info("짐 출고 처리 완료: storageCode = {}", request.getStorageCode());
 
             return convertToResponse(savedStorageItem);
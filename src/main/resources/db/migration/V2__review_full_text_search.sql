@@ -0,0 +1,28 @@
+-- 리뷰 전문 검색 인덱스
+-- 작성일: 2026-10-17
+-- 목적: LIKE '%검색어%' 전체 스캔 대신 tsvector/GIN 인덱스로 리뷰 검색
+-- 한국어 형태소 사전이 없으므로 'simple' 설정(공백 단위 토큰, 소문자 변환)을 사용하고,
+-- 공백 단위 토큰은 조사/복합어('보관이', '짐보관')와 일치하지 않으므로,
+-- 기존 LIKE 검색처럼 부분 일치가 필요한 매장명/제목/내용/작성자명은 trigram 인덱스로 처리
+
+-- 1. trigram 확장
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- 2. 검색용 tsvector 생성 컬럼 (매장명 > 제목 > 내용 순으로 가중치)
+ALTER TABLE reviews ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(place_name, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(title, '')), 'B') ||
+        setweight(to_tsvector('simple', coalesce(content, '')), 'C')
+    ) STORED;
+
+-- 3. 전문 검색 인덱스
+CREATE INDEX IF NOT EXISTS idx_reviews_search_vector ON reviews USING GIN (search_vector);
+
+-- 4. 매장명/제목/내용/작성자명 부분 일치 인덱스
+CREATE INDEX IF NOT EXISTS idx_reviews_place_name_trgm ON reviews USING GIN (place_name gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_reviews_title_trgm ON reviews USING GIN (title gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_reviews_content_trgm ON reviews USING GIN (content gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_users_name_trgm ON users USING GIN (name gin_trgm_ops);
+
+-- 완료
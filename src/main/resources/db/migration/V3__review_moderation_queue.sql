@@ -0,0 +1,20 @@
+-- 신고 리뷰 검토 대기열
+-- 작성일: 2026-10-17
+-- 목적: 검토 대기 항목만 인덱싱하여 대기열 조회 시 처리 완료 항목을 읽지 않도록 함
+-- (테이블은 JPA ddl-auto로 생성되며, 부분 인덱스만 별도로 추가)
+
+-- 1. 검토 대기 항목 부분 인덱스
+CREATE INDEX IF NOT EXISTS idx_review_moderation_queue_pending
+    ON review_moderation_queue (first_reported_at, report_count)
+    WHERE status = 'PENDING';
+
+-- 2. 기존 신고 데이터로 대기열 채우기 (처리 대기 신고가 있는 리뷰)
+INSERT INTO review_moderation_queue (review_id, status, report_count, first_reported_at, last_reported_at)
+SELECT rr.review_id, 'PENDING', COUNT(*),
+       COALESCE(MIN(rr.created_at), CURRENT_TIMESTAMP), COALESCE(MAX(rr.created_at), CURRENT_TIMESTAMP)
+FROM review_reports rr
+WHERE rr.status = 'PENDING'
+GROUP BY rr.review_id
+ON CONFLICT (review_id) DO NOTHING;
+
+-- 완료
@@ -0,0 +1,11 @@
+-- 포트원 웹훅 수신함
+-- 작성일: 2026-10-17
+-- 목적: 결제 반영 상태 조회 시 처리 완료된 웹훅 행을 읽지 않도록 미반영 웹훅만 인덱싱
+-- (테이블, webhook_id 유니크 제약, 작업자용 상태 인덱스는 JPA ddl-auto로 생성되며, 부분 인덱스만 별도로 추가)
+
+-- 1. 결제별 미반영 웹훅 부분 인덱스 (결제 반영 상태 조회용)
+CREATE INDEX IF NOT EXISTS idx_payment_webhook_inbox_unprocessed_payment
+    ON payment_webhook_inbox (payment_id)
+    WHERE status IN ('PENDING', 'PROCESSING');
+
+-- 완료
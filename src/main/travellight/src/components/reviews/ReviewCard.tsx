@@ -223,7 +223,7 @@ const ReviewCard: React.FC<ReviewCardProps> = ({
               {review.photos.map((photo) => (
                 <ImageListItem key={photo.id}>
                   <img
-                    src={photo.filePath}
+                    src={photo.thumbnailPath || photo.filePath}
                     alt={photo.originalFilename}
                     loading="lazy"
                     style={{ 
@@ -520,6 +520,10 @@ export interface ReviewPhotoResponse {
   filePath: string;
   fileSize?: number;
   mimeType?: string;
+  width?: number;
+  height?: number;
+  displayPath?: string;   // 화면용 이미지 (변환 전이면 없음)
+  thumbnailPath?: string; // 썸네일 이미지 (변환 전이면 없음)
   sortOrder: number;
   uploadedAt: string;
 }
@@ -906,6 +910,8 @@ export const activityLogService = {
 export interface PaymentDto {
   id: number;
   reservationId: number;
+  reservationNumber?: string;
+  placeName?: string;
   paymentId: string;
   transactionId?: string;
   merchantId?: string;
@@ -940,6 +946,15 @@ export interface PaymentDto {
   updatedAt: string;
 }
 
+// 커서(생성일시, ID) 기반 결제 내역 페이지
+export interface PaymentHistoryPage {
+  payments: PaymentDto[];
+  size: number;
+  hasNext: boolean;
+  nextCursorCreatedAt?: string;
+  nextCursorId?: number;
+}
+
 export const paymentService = {
   // 결제 ID로 결제 정보 조회
   getPaymentByPaymentId: async (paymentId: string): Promise<ApiResponse<PaymentDto>> => {
@@ -965,6 +980,14 @@ export const paymentService = {
     return response.data;
   },
 
+  // 사용자 결제 내역 페이지 조회 (다음 페이지는 이전 응답의 커서 전달)
+  getPaymentHistory: async (userId: number, cursor?: { createdAt: string; id: number }, size = 20): Promise<ApiResponse<PaymentHistoryPage>> => {
+    const response = await api.get<ApiResponse<PaymentHistoryPage>>(`/payment/user/${userId}/history`, {
+      params: { cursorCreatedAt: cursor?.createdAt, cursorId: cursor?.id, size }
+    });
+    return response.data;
+  },
+
   // 결제 취소
   cancelPayment: async (paymentId: string, cancelReason: string): Promise<ApiResponse<any>> => {
     const response = await api.post<ApiResponse<any>>('/payment/cancel', {
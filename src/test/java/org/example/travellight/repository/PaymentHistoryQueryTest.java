@@ -0,0 +1,107 @@
+package org.example.travellight.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.travellight.config.JacksonConfig;
+import org.example.travellight.dto.PaymentHistoryDto;
+import org.example.travellight.dto.PaymentHistoryPageDto;
+import org.example.travellight.entity.Payment;
+import org.example.travellight.entity.Reservation;
+import org.example.travellight.entity.User;
+import org.example.travellight.service.PaymentService;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.example.travellight.support.TestFixtures.clearedStatistics;
+import static org.example.travellight.support.TestFixtures.reservation;
+import static org.example.travellight.support.TestFixtures.user;
+
+/**
+ * 사용자 결제 내역이 예약 수와 관계없이 페이지당 한 번의 쿼리로 조회되고, 커서로 빠짐없이 이어지는지 검증
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({PaymentService.class, JacksonConfig.class})
+class PaymentHistoryQueryTest {
+
+    private static final int RESERVATIONS = 30;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long travellerId;
+
+    @BeforeEach
+    void setUp() {
+        User traveller = entityManager.persist(user("traveller"));
+        User other = entityManager.persist(user("other"));
+        travellerId = traveller.getId();
+
+        for (int i = 0; i < RESERVATIONS; i++) {
+            Reservation reservation = entityManager.persist(completed(traveller, "R-" + i));
+            entityManager.persist(payment(reservation, "pay-" + i));
+        }
+        entityManager.persist(payment(entityManager.persist(completed(other, "R-OTHER")), "pay-other"));
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = clearedStatistics(entityManagerFactory);
+    }
+
+    @Test
+    void historyPagesAreLoadedWithOneQueryEach() {
+        List<PaymentHistoryDto> collected = new ArrayList<>();
+        PaymentHistoryPageDto page = paymentService.getPaymentHistory(travellerId, null, null, 12);
+        collected.addAll(page.getPayments());
+        int pages = 1;
+        while (page.getHasNext()) {
+            page = paymentService.getPaymentHistory(travellerId, page.getNextCursorCreatedAt(), page.getNextCursorId(), 12);
+            collected.addAll(page.getPayments());
+            pages++;
+        }
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(collected).hasSize(RESERVATIONS);
+        assertThat(collected).extracting(PaymentHistoryDto::getPaymentId).doesNotHaveDuplicates().doesNotContain("pay-other");
+        assertThat(collected.get(0).getReservationNumber()).startsWith("R-");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(pages);
+    }
+
+    @Test
+    void fullHistoryIsOneQuery() {
+        List<PaymentHistoryDto> payments = paymentService.getAllPaymentHistory(travellerId);
+
+        assertThat(payments).hasSize(RESERVATIONS);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private Reservation completed(User user, String reservationNumber) {
+        return reservation(user, reservationNumber).status("COMPLETED").build();
+    }
+
+    private Payment payment(Reservation reservation, String paymentId) {
+        return Payment.builder()
+                .reservation(reservation)
+                .paymentId(paymentId)
+                .paymentMethod("card")
+                .paymentStatus("PAID")
+                .paymentAmount(3000)
+                .build();
+    }
+}
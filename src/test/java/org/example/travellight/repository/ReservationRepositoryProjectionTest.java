@@ -0,0 +1,100 @@
+package org.example.travellight.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.travellight.dto.ReservationDto;
+import org.example.travellight.entity.User;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.example.travellight.support.TestFixtures.PLACE_NAME;
+import static org.example.travellight.support.TestFixtures.clearedStatistics;
+import static org.example.travellight.support.TestFixtures.reservation;
+import static org.example.travellight.support.TestFixtures.user;
+
+/**
+ * 예약 조회가 사용자 지연 로딩 없이 한 번의 쿼리로 끝나는지 Hibernate 통계로 검증
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class ReservationRepositoryProjectionTest {
+
+    private static final int USERS = 3;
+    private static final int RESERVATIONS_PER_USER = 4;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long firstUserId;
+
+    @BeforeEach
+    void setUp() {
+        for (int u = 0; u < USERS; u++) {
+            User user = entityManager.persist(user("user" + u));
+            if (firstUserId == null) {
+                firstUserId = user.getId();
+            }
+            for (int r = 0; r < RESERVATIONS_PER_USER; r++) {
+                entityManager.persist(reservation(user, "R" + u + "-" + r)
+                        .smallBags(1)
+                        .mediumBags(0)
+                        .largeBags(0)
+                        .build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = clearedStatistics(entityManagerFactory);
+    }
+
+    @Test
+    void userReservationsLoadInSingleStatement() {
+        List<ReservationDto> reservations = reservationRepository.findDtosByUserId(firstUserId);
+
+        assertThat(reservations).hasSize(RESERVATIONS_PER_USER);
+        assertThat(reservations).allSatisfy(dto -> {
+            assertThat(dto.getUserId()).isEqualTo(firstUserId);
+            assertThat(dto.getUserEmail()).isEqualTo("user0@travellight.com");
+            assertThat(dto.getUserName()).isEqualTo("user0");
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void placeAndRecentReservationsLoadInSingleStatementEach() {
+        List<ReservationDto> byPlace = reservationRepository.findDtosByPlaceName(PLACE_NAME);
+        assertThat(byPlace).hasSize(USERS * RESERVATIONS_PER_USER);
+        assertThat(byPlace).extracting(ReservationDto::getUserEmail).doesNotContainNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        statistics.clear();
+        List<ReservationDto> recent = reservationRepository.findRecentDtos(PageRequest.of(0, 5));
+        assertThat(recent).hasSize(5);
+        assertThat(recent).extracting(ReservationDto::getUserName).doesNotContainNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void reservationByNumberLoadsInSingleStatement() {
+        ReservationDto reservation = reservationRepository.findDtoByReservationNumber("R1-2").orElseThrow();
+
+        assertThat(reservation.getUserName()).isEqualTo("user1");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,94 @@
+package org.example.travellight.service;
+
+import jakarta.mail.Address;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.example.travellight.dto.ReservationDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 예약 확인 메일 일괄 전송이 한 번의 SMTP 연결로 처리되고 메일별 결과를 돌려주는지 검증
+ */
+class EmailServiceImplTest {
+
+    @Test
+    void batchSendUsesSingleConnectionAndReportsPerMessageResults() {
+        FakeSmtpMailSender mailSender = new FakeSmtpMailSender();
+        EmailServiceImpl emailService = new EmailServiceImpl(mailSender);
+
+        List<Boolean> results = emailService.sendReservationConfirmationEmails(List.of(
+                reservation("a@travellight.com"),
+                reservation("fail@travellight.com"),
+                reservation("b@travellight.com")));
+
+        assertThat(results).containsExactly(true, false, true);
+        assertThat(mailSender.connections).isEqualTo(1);
+        assertThat(mailSender.delivered).containsExactly("a@travellight.com", "b@travellight.com");
+    }
+
+    private ReservationDto reservation(String email) {
+        return ReservationDto.builder()
+                .id(1L)
+                .userEmail(email)
+                .userName("테스트")
+                .placeName("트래블라이트 홍대점")
+                .placeAddress("서울 마포구 양화로 160")
+                .reservationNumber("R1")
+                .storageDate(LocalDate.now())
+                .storageEndDate(LocalDate.now())
+                .storageStartTime(LocalTime.of(10, 0))
+                .storageEndTime(LocalTime.of(18, 0))
+                .smallBags(1)
+                .mediumBags(0)
+                .largeBags(0)
+                .totalPrice(3000)
+                .storageType("day")
+                .build();
+    }
+
+    /**
+     * 실제 SMTP 서버 대신 전송 요청을 기록하는 메일 발송기 (수신자에 "fail"이 포함되면 거부)
+     */
+    private static class FakeSmtpMailSender extends JavaMailSenderImpl {
+        private int connections;
+        private final List<String> delivered = new ArrayList<>();
+
+        @Override
+        protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) throws MailException {
+            connections++;
+            Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+            for (MimeMessage message : mimeMessages) {
+                try {
+                    String recipient = recipientOf(message);
+                    if (recipient.contains("fail")) {
+                        failedMessages.put(message, new MessagingException("550 수신 거부: " + recipient));
+                    } else {
+                        delivered.add(recipient);
+                    }
+                } catch (MessagingException e) {
+                    failedMessages.put(message, e);
+                }
+            }
+            if (!failedMessages.isEmpty()) {
+                throw new MailSendException(failedMessages);
+            }
+        }
+
+        private static String recipientOf(MimeMessage message) throws MessagingException {
+            Address[] recipients = message.getAllRecipients();
+            return recipients[0].toString();
+        }
+    }
+}
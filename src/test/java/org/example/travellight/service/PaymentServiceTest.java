@@ -0,0 +1,123 @@
+package org.example.travellight.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.travellight.dto.PortOnePaymentDto;
+import org.example.travellight.entity.Payment;
+import org.example.travellight.entity.Reservation;
+import org.example.travellight.repository.PaymentRepository;
+import org.example.travellight.repository.ReservationRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 포트원 V2 결제 응답이 한 번의 역직렬화와 매핑으로 Payment에 반영되는지 검증
+ */
+class PaymentServiceTest {
+
+    private static final String EASY_PAY_RESPONSE = """
+            {
+              "status": "PAID",
+              "id": "pay-1",
+              "transactionId": "tx-1",
+              "merchantId": "merchant-1",
+              "storeId": "store-1",
+              "method": {
+                "type": "PaymentMethodEasyPay",
+                "provider": "KAKAOPAY",
+                "easyPayMethod": {
+                  "type": "PaymentMethodEasyPayMethodCard",
+                  "card": {"issuer": "SHINHAN_CARD", "type": "CREDIT", "number": "1234-****", "name": "신한카드"},
+                  "approvalNumber": "A-1",
+                  "installment": {"month": 3, "isInterestFree": true}
+                }
+              },
+              "channel": {"type": "LIVE", "id": "ch-1", "key": "channel-key", "name": "카카오페이", "pgProvider": "KAKAOPAY", "pgMerchantId": "pg-1"},
+              "amount": {"total": 12000, "taxFree": 0, "discount": 0, "paid": 12000, "cancelled": 0},
+              "currency": "KRW",
+              "customData": "{\\"userId\\":7,\\"reservationNumber\\":\\"R-1\\",\\"reservationData\\":\\"{\\\\\\"couponCode\\\\\\":\\\\\\"WELCOME\\\\\\",\\\\\\"couponName\\\\\\":\\\\\\"첫 예약\\\\\\",\\\\\\"couponDiscount\\\\\\":\\\\\\"2000\\\\\\"}\\"}",
+              "requestedAt": "2026-10-17T01:00:00Z",
+              "paidAt": "2026-10-17T01:00:05Z"
+            }
+            """;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final PaymentRepository paymentRepository = mock(PaymentRepository.class);
+    private final ReservationRepository reservationRepository = mock(ReservationRepository.class);
+    private final PaymentService paymentService = new PaymentService(paymentRepository, reservationRepository, objectMapper);
+
+    @Test
+    void easyPayResponseIsMappedInOnePass() throws Exception {
+        Reservation reservation = Reservation.builder().reservationNumber("R-1").build();
+        when(reservationRepository.findByReservationNumber("R-1")).thenReturn(Optional.of(reservation));
+        when(paymentRepository.save(any(Payment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        PortOnePaymentDto.Payment paymentInfo = objectMapper.readValue(EASY_PAY_RESPONSE, PortOnePaymentDto.Payment.class);
+        PortOnePaymentDto.CustomData customData = paymentService.parseCustomData(paymentInfo);
+        assertThat(customData.userId()).isEqualTo("7");
+        assertThat(customData.reservationNumber()).isEqualTo("R-1");
+
+        Payment payment = paymentService.createPaymentFromPortOne(paymentInfo, customData.reservationNumber());
+
+        assertThat(payment.getReservation()).isSameAs(reservation);
+        assertThat(payment.getPaymentId()).isEqualTo("pay-1");
+        assertThat(payment.getPaymentStatus()).isEqualTo("PAID");
+        assertThat(payment.getPaymentMethod()).isEqualTo("easypay");
+        assertThat(payment.getEasyPayProvider()).isEqualTo("KAKAOPAY");
+        assertThat(payment.getCardCompany()).isEqualTo("SHINHAN_CARD");
+        assertThat(payment.getCardType()).isEqualTo("CREDIT");
+        assertThat(payment.getApprovalNumber()).isEqualTo("A-1");
+        assertThat(payment.getInstallmentMonth()).isEqualTo(3);
+        assertThat(payment.getIsInterestFree()).isTrue();
+        assertThat(payment.getPaymentProvider()).isEqualTo("KAKAOPAY");
+        assertThat(payment.getChannelKey()).isEqualTo("channel-key");
+        assertThat(payment.getPaymentAmount()).isEqualTo(12000);
+        assertThat(payment.getCurrency()).isEqualTo("KRW");
+        assertThat(payment.getCouponCode()).isEqualTo("WELCOME");
+        assertThat(payment.getCouponName()).isEqualTo("첫 예약");
+        assertThat(payment.getCouponDiscount()).isEqualTo(2000);
+    }
+
+    @Test
+    void customDataNestedInReservationDataIsRead() throws Exception {
+        // 결제 화면(Map.tsx)이 보내는 형태: userId, reservationNumber가 reservationData 안에 있음
+        PortOnePaymentDto.Payment paymentInfo = new PortOnePaymentDto.Payment("pay-3", "PAID", null, null, null,
+                null, null, new PortOnePaymentDto.Amount(9000L, 1000L), "KRW", """
+                {"reservationData": {"userId": 7, "userEmail": "test@travellight.com", "userName": "테스트",
+                  "placeName": "트래블라이트 홍대점", "placeAddress": "서울 마포구 양화로 160", "reservationNumber": "R-3",
+                  "storageDate": "2026-10-17", "storageEndDate": "2026-10-17", "storageStartTime": "10:00",
+                  "storageEndTime": "18:00", "smallBags": 1, "mediumBags": 0, "largeBags": 0, "totalPrice": 9000,
+                  "originalPrice": 10000, "couponCode": "WELCOME", "couponName": "첫 예약", "couponDiscount": 1000}}
+                """, null, null, null);
+
+        PortOnePaymentDto.CustomData customData = paymentService.parseCustomData(paymentInfo);
+
+        assertThat(customData.userId()).isEqualTo("7");
+        assertThat(customData.reservationNumber()).isEqualTo("R-3");
+        assertThat(customData.reservationData().couponCode()).isEqualTo("WELCOME");
+        assertThat(customData.reservationData().couponDiscount()).isEqualTo(1000);
+    }
+
+    @Test
+    void paymentWithoutMethodFallsBackToChannelProvider() throws Exception {
+        Reservation reservation = Reservation.builder().reservationNumber("R-2").build();
+        when(reservationRepository.findByReservationNumber("R-2")).thenReturn(Optional.of(reservation));
+        when(paymentRepository.save(any(Payment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        PortOnePaymentDto.Payment paymentInfo = objectMapper.readValue("""
+                {"id": "pay-2", "status": "PAID", "channel": {"pgProvider": "PAYPAL_V2"}, "amount": {"total": 30}, "currency": "USD"}
+                """, PortOnePaymentDto.Payment.class);
+
+        Payment payment = paymentService.createPaymentFromPortOne(paymentInfo, "R-2");
+
+        assertThat(payment.getPaymentMethod()).isEqualTo("paypal");
+        assertThat(payment.getPaymentAmount()).isEqualTo(30);
+        assertThat(payment.getCurrency()).isEqualTo("USD");
+        assertThat(paymentService.parseCustomData(paymentInfo)).isEqualTo(PortOnePaymentDto.CustomData.EMPTY);
+    }
+}
@@ -0,0 +1,122 @@
+package org.example.travellight.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.travellight.config.PortOneProperties;
+import org.example.travellight.dto.PortOnePaymentDto;
+import org.example.travellight.repository.PaymentWebhookInboxRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 웹훅 서명 검증, 중복 수신 무시, 수신 후 결제 반영 흐름 검증
+ */
+class PaymentWebhookServiceTest {
+
+    private static final String SECRET = "whsec_" + Base64.getEncoder().encodeToString("test-webhook-secret".getBytes(StandardCharsets.UTF_8));
+    private static final String PAYLOAD = "{\"type\":\"Transaction.Paid\",\"data\":{\"paymentId\":\"pay-1\",\"storeId\":\"store-1\"}}";
+
+    private final PaymentWebhookInboxRepository inboxRepository = mock(PaymentWebhookInboxRepository.class);
+    private final PortOnePaymentService portOnePaymentService = mock(PortOnePaymentService.class);
+    private final PaymentService paymentService = mock(PaymentService.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private PaymentWebhookService paymentWebhookService;
+
+    @BeforeEach
+    void setUp() {
+        PortOneProperties properties = new PortOneProperties();
+        properties.setWebhook(SECRET);
+
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        doAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        paymentWebhookService = new PaymentWebhookService(inboxRepository, portOnePaymentService, paymentService,
+                properties, new ObjectMapper(), transactionTemplate);
+        ReflectionTestUtils.setField(paymentWebhookService, "maxConcurrency", 2);
+        ReflectionTestUtils.setField(paymentWebhookService, "maxAttempts", 3);
+        paymentWebhookService.init();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        paymentWebhookService.shutdown();
+    }
+
+    @Test
+    void signedWebhookIsRecordedAndAppliedToPayment() throws Exception {
+        PortOnePaymentDto.Payment paymentInfo = payment("pay-1", "PAID");
+        when(inboxRepository.insertIfAbsent("wh-1", "Transaction.Paid", "pay-1", PAYLOAD)).thenReturn(List.of(1L));
+        when(inboxRepository.claimByIdsReturning(List.of(1L))).thenReturn(List.<Object[]>of(new Object[]{1L, "pay-1", 1}));
+        when(portOnePaymentService.verifyPayment("pay-1")).thenReturn(paymentInfo);
+        when(paymentService.applyVerifiedPayments(anyCollection())).thenReturn(Set.of());
+
+        String timestamp = String.valueOf(System.currentTimeMillis() / 1000);
+        paymentWebhookService.receive("wh-1", timestamp, "v1," + sign("wh-1", timestamp, PAYLOAD), PAYLOAD);
+
+        verify(portOnePaymentService, timeout(2000)).invalidateVerification("pay-1");
+        verify(paymentService, timeout(2000)).applyVerifiedPayments(anyCollection());
+        verify(inboxRepository, timeout(2000)).markProcessed(eq(List.of(1L)), any());
+    }
+
+    @Test
+    void duplicateWebhookIsNotProcessedAgain() throws Exception {
+        when(inboxRepository.insertIfAbsent(anyString(), anyString(), anyString(), anyString())).thenReturn(List.of());
+
+        String timestamp = String.valueOf(System.currentTimeMillis() / 1000);
+        paymentWebhookService.receive("wh-1", timestamp, "v1," + sign("wh-1", timestamp, PAYLOAD), PAYLOAD);
+
+        verify(inboxRepository, never()).claimByIdsReturning(anyCollection());
+    }
+
+    @Test
+    void invalidOrStaleSignatureIsRejected() throws Exception {
+        String timestamp = String.valueOf(System.currentTimeMillis() / 1000);
+        assertThatThrownBy(() -> paymentWebhookService.receive("wh-1", timestamp, "v1,invalid", PAYLOAD))
+                .isInstanceOf(PaymentWebhookService.InvalidWebhookException.class);
+
+        String stale = String.valueOf(System.currentTimeMillis() / 1000 - 3600);
+        String staleSignature = "v1," + sign("wh-1", stale, PAYLOAD);
+        assertThatThrownBy(() -> paymentWebhookService.receive("wh-1", stale, staleSignature, PAYLOAD))
+                .isInstanceOf(PaymentWebhookService.InvalidWebhookException.class);
+
+        verify(inboxRepository, never()).insertIfAbsent(anyString(), anyString(), anyString(), anyString());
+    }
+
+    private static PortOnePaymentDto.Payment payment(String id, String status) {
+        return new PortOnePaymentDto.Payment(id, status, null, null, null, null, null, null, null, null, null, null, null);
+    }
+
+    private static String sign(String webhookId, String timestamp, String payload) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(Base64.getDecoder().decode(SECRET.substring("whsec_".length())), "HmacSHA256"));
+        return Base64.getEncoder().encodeToString(
+                mac.doFinal((webhookId + "." + timestamp + "." + payload).getBytes(StandardCharsets.UTF_8)));
+    }
+}
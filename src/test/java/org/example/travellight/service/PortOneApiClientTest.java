@@ -0,0 +1,117 @@
+package org.example.travellight.service;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.travellight.config.PortOneClientProperties;
+import org.example.travellight.config.PortOneProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * api.portone.io 대신 로컬 스텁 서버로 타임아웃, 서킷 브레이커, 지연 시간 지표를 검증
+ */
+class PortOneApiClientTest {
+
+    private HttpServer server;
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile int status = 200;
+    private volatile long delayMillis = 0;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PortOneApiClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/payments/", exchange -> {
+            requests.incrementAndGet();
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            assertThat(exchange.getRequestHeaders().getFirst("Authorization")).isEqualTo("PortOne test-secret");
+            byte[] body = "{\"id\":\"pay-1\",\"status\":\"PAID\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        PortOneProperties portOneProperties = new PortOneProperties();
+        portOneProperties.setApi("test-secret");
+
+        PortOneClientProperties clientProperties = new PortOneClientProperties();
+        clientProperties.setBaseUrl("http://127.0.0.1:" + server.getAddress().getPort());
+        clientProperties.setReadTimeoutMs(300);
+        clientProperties.setFailureThreshold(3);
+        clientProperties.setOpenStateMs(60000);
+
+        meterRegistry = new SimpleMeterRegistry();
+        client = new PortOneApiClient(portOneProperties, clientProperties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void returnsPaymentAndRecordsLatency() {
+        Map<String, Object> payment = client.get("verify", "/payments/{paymentId}", "pay-1");
+
+        assertThat(payment).containsEntry("status", "PAID");
+        assertThat(meterRegistry.get("portone.api.latency")
+                .tag("operation", "verify").tag("outcome", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void slowResponseTimesOut() {
+        delayMillis = 2000;
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> client.get("verify", "/payments/{paymentId}", "pay-1"))
+                .isInstanceOf(RuntimeException.class);
+
+        assertThat((System.nanoTime() - start) / 1_000_000).isLessThan(1500);
+    }
+
+    @Test
+    void circuitOpensAfterConsecutiveServerErrors() {
+        status = 503;
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> client.get("verify", "/payments/{paymentId}", "pay-1"))
+                    .isNotInstanceOf(PortOneApiClient.PortOneUnavailableException.class);
+        }
+
+        // 서킷이 열리면 스텁 서버까지 요청이 가지 않음
+        assertThatThrownBy(() -> client.get("verify", "/payments/{paymentId}", "pay-1"))
+                .isInstanceOf(PortOneApiClient.PortOneUnavailableException.class);
+        assertThat(requests.get()).isEqualTo(3);
+    }
+
+    @Test
+    void clientErrorsDoNotOpenCircuit() {
+        status = 404;
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> client.get("verify", "/payments/{paymentId}", "missing"))
+                    .isNotInstanceOf(PortOneApiClient.PortOneUnavailableException.class);
+        }
+        assertThat(requests.get()).isEqualTo(5);
+    }
+}
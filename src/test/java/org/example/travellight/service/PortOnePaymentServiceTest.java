@@ -0,0 +1,82 @@
+package org.example.travellight.service;
+
+import org.example.travellight.dto.PortOnePaymentDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 같은 결제의 동시/반복 검증이 포트원 호출 한 번을 공유하는지 검증
+ */
+class PortOnePaymentServiceTest {
+
+    private final PortOneApiClient portOneApiClient = mock(PortOneApiClient.class);
+    private final PortOnePaymentService portOnePaymentService = new PortOnePaymentService(portOneApiClient);
+
+    @Test
+    void concurrentVerificationsShareOneUpstreamCall() throws Exception {
+        when(portOneApiClient.get(eq("verify"), eq(PortOnePaymentDto.Payment.class), any(), eq("pay-1"))).thenAnswer(invocation -> {
+            Thread.sleep(200);
+            return payment("pay-1", "PAID");
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<PortOnePaymentDto.Payment>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return portOnePaymentService.verifyPayment("pay-1");
+            }));
+        }
+        start.countDown();
+        for (Future<PortOnePaymentDto.Payment> future : futures) {
+            assertThat(future.get().status()).isEqualTo("PAID");
+        }
+        executor.shutdown();
+
+        // 완료 상태는 이후 반복 검증에도 재사용
+        assertThat(portOnePaymentService.verifyPayment("pay-1").status()).isEqualTo("PAID");
+        verify(portOneApiClient, times(1)).get(eq("verify"), eq(PortOnePaymentDto.Payment.class), any(), eq("pay-1"));
+    }
+
+    @Test
+    void cancelInvalidatesCachedVerification() {
+        when(portOneApiClient.get(eq("verify"), eq(PortOnePaymentDto.Payment.class), any(), eq("pay-2")))
+                .thenReturn(payment("pay-2", "PAID"))
+                .thenReturn(payment("pay-2", "CANCELLED"));
+
+        assertThat(portOnePaymentService.verifyPayment("pay-2").status()).isEqualTo("PAID");
+        portOnePaymentService.cancelPayment("pay-2", "고객 요청");
+
+        assertThat(portOnePaymentService.verifyPayment("pay-2").status()).isEqualTo("CANCELLED");
+        verify(portOneApiClient, times(2)).get(eq("verify"), eq(PortOnePaymentDto.Payment.class), any(), eq("pay-2"));
+    }
+
+    @Test
+    void failedVerificationIsNotCached() {
+        when(portOneApiClient.get(eq("verify"), eq(PortOnePaymentDto.Payment.class), any(), eq("pay-3")))
+                .thenThrow(new IllegalStateException("timeout"))
+                .thenReturn(payment("pay-3", "PAID"));
+
+        assertThat(portOnePaymentService.verifyPayment("pay-3")).isNull();
+        assertThat(portOnePaymentService.verifyPayment("pay-3").status()).isEqualTo("PAID");
+    }
+
+    private static PortOnePaymentDto.Payment payment(String id, String status) {
+        return new PortOnePaymentDto.Payment(id, status, null, null, null, null, null, null, null, null, null, null, null);
+    }
+}
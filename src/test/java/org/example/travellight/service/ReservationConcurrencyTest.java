@@ -0,0 +1,152 @@
+package org.example.travellight.service;
+
+import org.example.travellight.dto.PartnershipCapacityDto;
+import org.example.travellight.dto.ReservationDto;
+import org.example.travellight.entity.Reservation;
+import org.example.travellight.entity.User;
+import org.example.travellight.repository.ReservationRepository;
+import org.example.travellight.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 같은 매장에 대한 동시 예약에서 보관 용량을 초과하지 않는지 검증
+ */
+class ReservationConcurrencyTest {
+
+    private static final String PLACE_NAME = "트래블라이트 홍대점";
+    private static final String PLACE_ADDRESS = "서울 마포구 양화로 160";
+    private static final int SMALL_CAPACITY = 500;
+    private static final int REQUESTS = 5000;
+    private static final int THREADS = 64;
+
+    private ReservationServiceImpl reservationService;
+    private CapacityLedgerService capacityLedgerService;
+    private ReservationRepository reservationRepository;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository = mock(ReservationRepository.class);
+        UserRepository userRepository = mock(UserRepository.class);
+        PartnershipService partnershipService = mock(PartnershipService.class);
+
+        User user = User.builder().id(1L).name("테스트").email("test@travellight.com").build();
+        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
+        when(reservationRepository.save(any(Reservation.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        PartnershipCapacityDto partnership = new PartnershipCapacityDto(1L, PLACE_NAME, PLACE_ADDRESS, "APPROVED",
+                SMALL_CAPACITY, 0, 0);
+        when(partnershipService.findCapacityByBusinessNameAndAddress(eq(PLACE_NAME), eq(PLACE_ADDRESS))).thenReturn(partnership);
+
+        capacityLedgerService = new CapacityLedgerService(reservationRepository);
+        reservationService = new ReservationServiceImpl(reservationRepository, userRepository,
+                mock(EmailOutboxService.class), partnershipService, capacityLedgerService,
+                mock(ReservationExpiryService.class));
+    }
+
+    @Test
+    void concurrentReservationsNeverExceedStoreCapacity() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            String reservationNumber = "R" + i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    reservationService.createReservation(request(reservationNumber));
+                    succeeded.incrementAndGet();
+                } catch (RuntimeException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(succeeded.get()).isEqualTo(SMALL_CAPACITY);
+        assertThat(rejected.get()).isEqualTo(REQUESTS - SMALL_CAPACITY);
+        assertThat(capacityLedgerService.getUsedCapacity(PLACE_NAME, PLACE_ADDRESS).get("smallBags"))
+                .isEqualTo(SMALL_CAPACITY);
+    }
+
+    @Test
+    void rolledBackReservationReturnsCapacity() {
+        when(reservationRepository.save(argThat((Reservation r) -> r != null && "R-FAIL".equals(r.getReservationNumber()))))
+                .thenThrow(new IllegalStateException("예약 저장 실패"));
+
+        // 트랜잭션 안에서 용량 차감 후 저장 실패 -> 트랜잭션 매니저가 롤백을 알리는 흐름 재현
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertThatThrownBy(() -> reservationService.createReservation(request("R-FAIL")))
+                    .isInstanceOf(RuntimeException.class);
+            assertThat(capacityLedgerService.getUsedCapacity(PLACE_NAME, PLACE_ADDRESS).get("smallBags")).isEqualTo(1);
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(capacityLedgerService.getUsedCapacity(PLACE_NAME, PLACE_ADDRESS).get("smallBags")).isZero();
+
+        // 롤백으로 돌려받은 용량까지 포함해 정확히 최대 용량만큼 예약 가능
+        for (int i = 0; i < SMALL_CAPACITY; i++) {
+            reservationService.createReservation(request("R" + i));
+        }
+        assertThatThrownBy(() -> reservationService.createReservation(request("R-OVER")))
+                .isInstanceOf(RuntimeException.class);
+        assertThat(capacityLedgerService.getUsedCapacity(PLACE_NAME, PLACE_ADDRESS).get("smallBags"))
+                .isEqualTo(SMALL_CAPACITY);
+    }
+
+    private ReservationDto request(String reservationNumber) {
+        return ReservationDto.builder()
+                .userId(1L)
+                .placeName(PLACE_NAME)
+                .placeAddress(PLACE_ADDRESS)
+                .reservationNumber(reservationNumber)
+                .storageDate(LocalDate.now())
+                .storageEndDate(LocalDate.now())
+                .storageStartTime(LocalTime.of(10, 0))
+                .storageEndTime(LocalTime.of(18, 0))
+                .smallBags(1)
+                .mediumBags(0)
+                .largeBags(0)
+                .totalPrice(3000)
+                .storageType("day")
+                .build();
+    }
+}
@@ -0,0 +1,142 @@
+package org.example.travellight.service;
+
+import org.example.travellight.entity.Reservation;
+import org.example.travellight.entity.Review;
+import org.example.travellight.entity.User;
+import org.example.travellight.repository.ReservationRepository;
+import org.example.travellight.repository.ReviewHelpfulRepository;
+import org.example.travellight.repository.ReviewRepository;
+import org.example.travellight.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.example.travellight.support.TestFixtures.reservation;
+import static org.example.travellight.support.TestFixtures.user;
+
+/**
+ * 한 리뷰에 여러 사용자가 동시에 도움이 됨을 눌러도 카운트가 유실되지 않는지 검증
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(ReviewServiceImpl.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReviewHelpfulConcurrencyTest {
+
+    private static final int VOTERS = 200;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private ReviewHelpfulRepository reviewHelpfulRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockitoBean
+    private PlaceReviewStatsService placeReviewStatsService;
+
+    @MockitoBean
+    private PlaceRankingService placeRankingService;
+
+    @MockitoBean
+    private ReviewPhotoStorageService reviewPhotoStorageService;
+
+    @MockitoBean
+    private ReviewPageCache reviewPageCache;
+
+    private Long reviewId;
+    private final List<User> voters = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        User author = userRepository.save(user("helpful-author"));
+        Reservation reservation = reservationRepository.save(reservation(author, "R-HELPFUL")
+                .status("COMPLETED")
+                .build());
+        reviewId = reviewRepository.save(Review.builder()
+                .user(author)
+                .reservation(reservation)
+                .placeName(reservation.getPlaceName())
+                .placeAddress(reservation.getPlaceAddress())
+                .rating(5)
+                .content("짐 보관이 편했어요")
+                .build()).getId();
+
+        for (int i = 0; i < VOTERS; i++) {
+            voters.add(userRepository.save(user("voter" + i)));
+        }
+    }
+
+    /**
+     * 트랜잭션 없이 커밋한 데이터는 롤백되지 않으므로, 같은 H2를 쓰는 다른 JPA 테스트를 위해 직접 삭제
+     */
+    @AfterEach
+    void tearDown() {
+        reviewHelpfulRepository.deleteAllInBatch();
+        reviewRepository.deleteAllInBatch();
+        reservationRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void concurrentVotesOnOneReviewAreNotLost() throws Exception {
+        // 모든 사용자가 동시에 도움이 됨
+        runConcurrently(voters);
+        assertThat(helpfulCount()).isEqualTo(VOTERS);
+        assertThat(reviewHelpfulRepository.count()).isEqualTo(VOTERS);
+
+        // 절반이 동시에 취소
+        runConcurrently(voters.subList(0, VOTERS / 2));
+        assertThat(helpfulCount()).isEqualTo(VOTERS / 2);
+        assertThat(reviewHelpfulRepository.count()).isEqualTo(VOTERS / 2);
+    }
+
+    private void runConcurrently(List<User> users) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (User user : users) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                reviewService.toggleHelpful(reviewId, user);
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private int helpfulCount() {
+        return reviewRepository.findById(reviewId).orElseThrow().getHelpfulCount();
+    }
+}
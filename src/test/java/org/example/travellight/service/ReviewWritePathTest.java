@@ -0,0 +1,94 @@
+package org.example.travellight.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.travellight.dto.ReviewDto;
+import org.example.travellight.entity.User;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.example.travellight.support.TestFixtures.clearedStatistics;
+import static org.example.travellight.support.TestFixtures.reservation;
+import static org.example.travellight.support.TestFixtures.user;
+
+/**
+ * 리뷰 작성이 검증 1회, 리뷰 INSERT, 사진 INSERT로 끝나는지 Hibernate 통계로 검증
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(ReviewServiceImpl.class)
+class ReviewWritePathTest {
+
+    private static final int PHOTOS = 5;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private PlaceReviewStatsService placeReviewStatsService;
+
+    @MockitoBean
+    private PlaceRankingService placeRankingService;
+
+    @MockitoBean
+    private ReviewPhotoStorageService reviewPhotoStorageService;
+
+    @MockitoBean
+    private ReviewPageCache reviewPageCache;
+
+    private Statistics statistics;
+    private User author;
+    private Long reservationId;
+
+    @BeforeEach
+    void setUp() {
+        author = entityManager.persist(user("author"));
+        reservationId = entityManager.persist(reservation(author, "R-WRITE")
+                .status("COMPLETED")
+                .build()).getId();
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = clearedStatistics(entityManagerFactory);
+    }
+
+    @Test
+    void createReviewRunsOnlyValidationAndInserts() {
+        List<String> filenames = List.of("1.jpg", "2.jpg", "3.jpg", "4.jpg", "5.jpg");
+        ReviewDto.ReviewRequest request = ReviewDto.ReviewRequest.builder()
+                .reservationId(reservationId)
+                .rating(5)
+                .title("편리해요")
+                .content("짐 보관이 편했어요")
+                .photoFilenames(filenames)
+                .build();
+
+        ReviewDto.ReviewResponse response = reviewService.createReview(request, author);
+        entityManager.flush();
+
+        assertThat(response.getPhotos()).hasSize(PHOTOS);
+        assertThat(response.getPhotos()).allSatisfy(photo -> assertThat(photo.getId()).isNotNull());
+        assertThat(response.getCanEdit()).isTrue();
+        assertThat(response.getReservationNumber()).isEqualTo("R-WRITE");
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1 + PHOTOS);
+
+        // 검증 조회 1 + 리뷰 INSERT 1 + 사진 INSERT (IDENTITY라 사진마다 1)
+        // (기존: 예약/사용자/중복 조회 3 + 리뷰 1 + 사진 INSERT + 응답 변환 조회 3)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2 + PHOTOS);
+    }
+}
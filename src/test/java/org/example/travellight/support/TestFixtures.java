@@ -0,0 +1,61 @@
+package org.example.travellight.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.travellight.entity.Reservation;
+import org.example.travellight.entity.Role;
+import org.example.travellight.entity.User;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * JPA 테스트 공용 데이터와 쿼리 수 측정 도구
+ */
+public final class TestFixtures {
+
+    public static final String PLACE_NAME = "트래블라이트 홍대점";
+    public static final String PLACE_ADDRESS = "서울 마포구 양화로 160";
+
+    private TestFixtures() {
+    }
+
+    /**
+     * 일반 회원 (이메일: 이름@travellight.com)
+     */
+    public static User user(String name) {
+        return User.builder()
+                .name(name)
+                .email(name + "@travellight.com")
+                .password("password")
+                .role(Role.USER)
+                .build();
+    }
+
+    /**
+     * 오늘 10시~18시 당일 보관 예약 (상태, 가방 수 등은 호출한 쪽에서 지정)
+     */
+    public static Reservation.ReservationBuilder reservation(User user, String reservationNumber) {
+        return Reservation.builder()
+                .user(user)
+                .placeName(PLACE_NAME)
+                .placeAddress(PLACE_ADDRESS)
+                .reservationNumber(reservationNumber)
+                .storageDate(LocalDate.now())
+                .storageEndDate(LocalDate.now())
+                .storageStartTime(LocalTime.of(10, 0))
+                .storageEndTime(LocalTime.of(18, 0))
+                .totalPrice(3000)
+                .storageType("day");
+    }
+
+    /**
+     * 지금부터 실행되는 쿼리 수를 세기 위한 Hibernate 통계 (누적값 초기화 후 반환)
+     */
+    public static Statistics clearedStatistics(EntityManagerFactory entityManagerFactory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}